@@ -25,7 +25,9 @@ CREATE TABLE IF NOT EXISTS rooms (
     is_theme_based BOOLEAN DEFAULT FALSE,
     question_timer_seconds INT DEFAULT 15,
     max_players INT DEFAULT 100,
+    scoring_rule_set VARCHAR(20) DEFAULT 'STANDARD',
     current_question_index INT DEFAULT 0,
+    question_deadline_at BIGINT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     started_at TIMESTAMP NULL,
     finished_at TIMESTAMP NULL,
@@ -43,6 +45,7 @@ CREATE TABLE IF NOT EXISTS players (
     join_order INT NOT NULL,
     total_score INT DEFAULT 0,
     current_streak INT DEFAULT 0,
+    scored_question_index INT DEFAULT -1,
     is_connected BOOLEAN DEFAULT TRUE,
     joined_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     last_activity_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -96,6 +99,12 @@ CREATE TABLE IF NOT EXISTS player_answers (
     UNIQUE KEY one_answer_per_question (player_id, question_id)
 );
 
+-- Id sequences (Hibernate pooled generators, allocationSize 50) so inserts can be batched
+CREATE TABLE IF NOT EXISTS player_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS player_answer_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS question_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS answer_seq (next_val BIGINT);
+
 -- ============================================================================
 -- Indexes for Performance
 -- ============================================================================
@@ -236,3 +245,13 @@ INSERT INTO answers (question_id, answer_text, answer_index) VALUES
 (28, 'Alps', 0), (28, 'Himalayas', 1), (28, 'Andes', 2), (28, 'Rocky Mountains', 3),
 (29, 'Monaco', 0), (29, 'San Marino', 1), (29, 'Liechtenstein', 2), (29, 'Vatican City', 3),
 (30, 'Brazil', 0), (30, 'Peru', 1), (30, 'Colombia', 2), (30, 'Venezuela', 3);
+
+-- ============================================================================
+-- Sequence start values
+-- ============================================================================
+
+-- A pooled generator hands out (next_val - 49) .. next_val first, so start past the seeded ids
+INSERT INTO player_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM players;
+INSERT INTO player_answer_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM player_answers;
+INSERT INTO question_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM questions;
+INSERT INTO answer_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM answers;
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 public class PlayerAnswerData {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence so Hibernate can batch inserts; IDENTITY forces one round-trip per row
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_answer_seq")
+    @SequenceGenerator(name = "player_answer_seq", sequenceName = "player_answer_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class PlayerData {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_seq")
+    @SequenceGenerator(name = "player_seq", sequenceName = "player_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,6 +38,10 @@ public class PlayerData {
     @Column(name = "current_streak")
     private Integer currentStreak = 0;
 
+    // Last question index whose answer is included in totalScore and currentStreak, -1 for none
+    @Column(name = "scored_question_index")
+    private Integer scoredQuestionIndex = -1;
+
     @Column(name = "is_connected")
     private Boolean isConnected = true;
 
@@ -36,9 +36,17 @@ public class RoomData {
     @Column(name = "max_players")
     private Integer maxPlayers = 100;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scoring_rule_set", length = 20)
+    private ScoringRuleSet scoringRuleSet = ScoringRuleSet.STANDARD;
+
     @Column(name = "current_question_index")
     private Integer currentQuestionIndex = 0;
 
+    // Epoch ms at which the open question ends; null between questions
+    @Column(name = "question_deadline_at")
+    private Long questionDeadlineAt;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -56,4 +64,9 @@ public class RoomData {
     public enum RoomStatus {
         LOBBY, IN_PROGRESS, FINISHED, CANCELLED
     }
+
+    // How answers are scored; see ScoreCalculator
+    public enum ScoringRuleSet {
+        STANDARD, STEPPED, NO_STREAK, FLAT
+    }
 }
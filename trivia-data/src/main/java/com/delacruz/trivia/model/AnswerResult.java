@@ -0,0 +1,24 @@
+package com.ectrvia.trivia.model;
+
+import lombok.Data;
+
+@Data
+public class AnswerResult {
+    private Long questionId;
+    private Boolean isCorrect;
+    private Integer correctAnswerIndex;
+    private Integer pointsEarned;
+    private Integer newTotalScore;
+    private Integer newStreak;
+
+    public static AnswerResult from(PlayerAnswer answer) {
+        AnswerResult result = new AnswerResult();
+        result.setQuestionId(answer.getQuestionId());
+        result.setIsCorrect(answer.getIsCorrect());
+        result.setCorrectAnswerIndex(answer.getCorrectAnswerIndex());
+        result.setPointsEarned(answer.getPointsEarned());
+        result.setNewTotalScore(answer.getNewTotalScore());
+        result.setNewStreak(answer.getStreakAtTime());
+        return result;
+    }
+}
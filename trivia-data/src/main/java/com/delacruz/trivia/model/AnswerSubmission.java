@@ -0,0 +1,15 @@
+package com.ectrvia.trivia.model;
+
+import lombok.Data;
+
+@Data
+public class AnswerSubmission {
+    private Long playerId;
+    private Long questionId;
+    private Integer selectedAnswerIndex;
+    private Integer answerTimeMs;
+    // Client-chosen id reused on retries, so a retried answer gets the original result
+    private String requestId;
+    // Epoch ms the answer was accepted, for queued and forwarded answers scored after receipt
+    private Long acceptedAt;
+}
@@ -0,0 +1,17 @@
+package com.ectrvia.trivia.model;
+
+import lombok.Data;
+
+/**
+ * A player's game total on a cross-room leaderboard. Players are per room, so the entry also
+ * names the room the score was made in.
+ */
+@Data
+public class GlobalLeaderboardEntry {
+    private Integer rank;
+    private Long playerId;
+    private String nickname;
+    private String roomCode;
+    private Integer totalScore;
+    private Long achievedAt;
+}
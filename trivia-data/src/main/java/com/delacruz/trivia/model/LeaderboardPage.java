@@ -0,0 +1,17 @@
+package com.ectrvia.trivia.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A slice of a room's standings. {@code nextCursor} continues after the last entry and is null
+ * when the slice reaches the bottom of the leaderboard.
+ */
+@Data
+public class LeaderboardPage {
+    private String roomCode;
+    private Integer totalPlayers;
+    private List<LeaderboardEntry> leaderboard;
+    private String nextCursor;
+}
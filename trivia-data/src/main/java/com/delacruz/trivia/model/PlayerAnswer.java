@@ -10,8 +10,10 @@ public class PlayerAnswer {
     private Long questionId;
     private Integer selectedAnswerIndex;
     private Boolean isCorrect;
+    private Integer correctAnswerIndex;
     private Integer answerTimeMs;
     private Integer pointsEarned;
     private Integer streakAtTime;
+    private Integer newTotalScore;
     private LocalDateTime submittedAt;
 }
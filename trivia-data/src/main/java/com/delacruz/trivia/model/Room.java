@@ -14,6 +14,7 @@ public class Room {
     private Boolean isThemeBased;
     private Integer questionTimerSeconds;
     private Integer maxPlayers;
+    private String scoringRuleSet;
     private Integer currentQuestionIndex;
     private Integer totalQuestions;
     private Integer playerCount;
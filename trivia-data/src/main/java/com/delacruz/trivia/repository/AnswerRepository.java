@@ -4,10 +4,12 @@ import com.ectrvia.trivia.entity.AnswerData;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AnswerRepository extends JpaRepository<AnswerData, Long> {
     List<AnswerData> findByQuestionIdOrderByAnswerIndexAsc(Long questionId);
+    List<AnswerData> findByQuestionIdInOrderByAnswerIndexAsc(Collection<Long> questionIds);
     void deleteByQuestionId(Long questionId);
 }
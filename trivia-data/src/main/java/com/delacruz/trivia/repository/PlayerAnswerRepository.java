@@ -4,6 +4,7 @@ import com.ectrvia.trivia.entity.PlayerAnswerData;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +13,6 @@ public interface PlayerAnswerRepository extends JpaRepository<PlayerAnswerData,
     Optional<PlayerAnswerData> findByPlayerIdAndQuestionId(Long playerId, Long questionId);
     List<PlayerAnswerData> findByQuestionId(Long questionId);
     List<PlayerAnswerData> findByPlayerId(Long playerId);
+    List<PlayerAnswerData> findByQuestionIdInAndPlayerIdIn(Collection<Long> questionIds, Collection<Long> playerIds);
     boolean existsByPlayerIdAndQuestionId(Long playerId, Long questionId);
 }
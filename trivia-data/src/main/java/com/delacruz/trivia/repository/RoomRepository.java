@@ -2,12 +2,26 @@ package com.ectrvia.trivia.repository;
 
 import com.ectrvia.trivia.entity.RoomData;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoomRepository extends JpaRepository<RoomData, Long> {
     Optional<RoomData> findByRoomCode(String roomCode);
     boolean existsByRoomCode(String roomCode);
+    List<RoomData> findByStatus(RoomData.RoomStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RoomData r SET r.currentQuestionIndex = :questionIndex, r.questionDeadlineAt = :deadlineAt " +
+           "WHERE r.roomCode = :roomCode")
+    int updateQuestionProgress(@Param("roomCode") String roomCode,
+                               @Param("questionIndex") Integer questionIndex,
+                               @Param("deadlineAt") Long deadlineAt);
 }
@@ -2,6 +2,7 @@ package com.ectrvia.trivia.service;
 
 import com.ectrvia.trivia.model.GameState;
 import com.ectrvia.trivia.model.LeaderboardEntry;
+import com.ectrvia.trivia.model.LeaderboardPage;
 
 import java.util.List;
 
@@ -10,4 +11,6 @@ public interface GameService {
     void advanceToNextQuestion(String roomCode);
     void endGame(String roomCode);
     List<LeaderboardEntry> getLeaderboard(String roomCode);
+    LeaderboardPage getLeaderboardPage(String roomCode, String cursor, int limit);
+    LeaderboardPage getLeaderboardAround(String roomCode, Long playerId, int radius);
 }
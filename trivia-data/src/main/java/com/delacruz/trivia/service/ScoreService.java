@@ -1,8 +1,14 @@
 package com.ectrvia.trivia.service;
 
+import com.ectrvia.trivia.model.AnswerSubmission;
 import com.ectrvia.trivia.model.PlayerAnswer;
 
+import java.util.List;
+
 public interface ScoreService {
     PlayerAnswer submitAnswer(String roomCode, Long playerId, Long questionId, Integer selectedAnswerIndex, Integer answerTimeMs);
+    PlayerAnswer submitAnswer(String roomCode, Long playerId, Long questionId, Integer selectedAnswerIndex, Integer answerTimeMs, String requestId);
+    int scoreAnswerBatch(String roomCode, List<AnswerSubmission> submissions);
+    void scoreForwardedAnswer(String roomCode, AnswerSubmission submission, long receivedAt);
     int calculateScore(boolean isCorrect, int answerTimeMs, int timerSeconds, int currentStreak);
 }
@@ -1,9 +1,13 @@
 package com.ectrvia.trivia.transform;
 
+import com.ectrvia.trivia.entity.AnswerData;
 import com.ectrvia.trivia.entity.QuestionData;
 import com.ectrvia.trivia.model.Question;
 
+import java.util.List;
+
 public interface TransformQuestionService {
     Question transform(QuestionData questionData);
+    Question transform(QuestionData questionData, List<AnswerData> answers);
     QuestionData transform(Question question);
 }
@@ -20,6 +20,12 @@ public class TransformQuestionServiceImpl implements TransformQuestionService {
     @Override
     public Question transform(QuestionData questionData) {
         if (questionData == null) return null;
+        return transform(questionData, answerRepository.findByQuestionIdOrderByAnswerIndexAsc(questionData.getId()));
+    }
+
+    @Override
+    public Question transform(QuestionData questionData, List<AnswerData> answers) {
+        if (questionData == null) return null;
 
         Question question = new Question();
         question.setId(questionData.getId());
@@ -35,7 +41,6 @@ public class TransformQuestionServiceImpl implements TransformQuestionService {
             question.setCategoryId(questionData.getCategory().getId());
         }
 
-        List<AnswerData> answers = answerRepository.findByQuestionIdOrderByAnswerIndexAsc(questionData.getId());
         question.setAnswers(answers.stream().map(this::transformAnswer).collect(Collectors.toList()));
 
         return question;
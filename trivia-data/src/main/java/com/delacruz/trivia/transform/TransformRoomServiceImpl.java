@@ -35,6 +35,9 @@ public class TransformRoomServiceImpl implements TransformRoomService {
         room.setIsThemeBased(roomData.getIsThemeBased());
         room.setQuestionTimerSeconds(roomData.getQuestionTimerSeconds());
         room.setMaxPlayers(roomData.getMaxPlayers());
+        if (roomData.getScoringRuleSet() != null) {
+            room.setScoringRuleSet(roomData.getScoringRuleSet().name());
+        }
         room.setCurrentQuestionIndex(roomData.getCurrentQuestionIndex());
         room.setCreatedAt(roomData.getCreatedAt());
         room.setStartedAt(roomData.getStartedAt());
@@ -74,6 +77,9 @@ public class TransformRoomServiceImpl implements TransformRoomService {
         roomData.setIsThemeBased(room.getIsThemeBased());
         roomData.setQuestionTimerSeconds(room.getQuestionTimerSeconds());
         roomData.setMaxPlayers(room.getMaxPlayers());
+        if (room.getScoringRuleSet() != null) {
+            roomData.setScoringRuleSet(RoomData.ScoringRuleSet.valueOf(room.getScoringRuleSet()));
+        }
         roomData.setCurrentQuestionIndex(room.getCurrentQuestionIndex());
 
         return roomData;
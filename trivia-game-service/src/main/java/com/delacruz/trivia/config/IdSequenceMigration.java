@@ -0,0 +1,61 @@
+package com.ectrvia.trivia.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves each id sequence table past the ids already in its entity table.
+ *
+ * On databases created while the entities still used IDENTITY ids, ddl-auto adds the
+ * {@code *_seq} tables starting at 1, and the first batch of inserts would reuse existing ids.
+ * Runs once the schema is updated and before the seeder or any consumer inserts rows; a
+ * sequence that is already past its table is left alone.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceMigration.class);
+
+    // Matches the allocationSize of the entities' @SequenceGenerator
+    private static final int ALLOCATION_SIZE = 50;
+
+    // Sequence table -> table whose ids it hands out
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "player_seq", "players",
+            "player_answer_seq", "player_answers",
+            "question_seq", "questions",
+            "answer_seq", "answers");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        SEQUENCES.forEach(this::seed);
+    }
+
+    private void seed(String sequence, String table) {
+        // A pooled generator hands out (next_val - 49) .. next_val first, as in init.sql
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long nextVal = maxId + ALLOCATION_SIZE;
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + sequence, Integer.class);
+        if (rows == null || rows == 0) {
+            jdbcTemplate.update("INSERT INTO " + sequence + " (next_val) VALUES (?)", nextVal);
+            logger.info("Seeded {} at {} from {}", sequence, nextVal, table);
+            return;
+        }
+        int updated = jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", nextVal, nextVal);
+        if (updated > 0) {
+            logger.info("Moved {} to {}, past the ids in {}", sequence, nextVal, table);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ectrvia.trivia.config;
+
+import com.ectrvia.trivia.scheduler.HashedWheelRoomTimer;
+import com.ectrvia.trivia.scheduler.RoomTimer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class SchedulerConfig {
+
+    @Value("${trivia.timer.tick-ms:10}")
+    private long tickMs;
+
+    @Value("${trivia.timer.wheel-size:512}")
+    private int wheelSize;
+
+    @Bean
+    public RoomTimer roomTimer() {
+        return new HashedWheelRoomTimer(tickMs, TimeUnit.MILLISECONDS, wheelSize);
+    }
+}
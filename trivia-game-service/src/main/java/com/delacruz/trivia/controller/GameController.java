@@ -1,10 +1,13 @@
 package com.ectrvia.trivia.controller;
 
-import com.ectrvia.trivia.entity.PlayerData;
+import com.ectrvia.trivia.game.LeaderboardDeltas;
+import com.ectrvia.trivia.game.RoomRuntime;
+import com.ectrvia.trivia.game.RoomRuntimeRegistry;
+import com.ectrvia.trivia.model.AnswerResult;
 import com.ectrvia.trivia.model.GameState;
 import com.ectrvia.trivia.model.LeaderboardEntry;
+import com.ectrvia.trivia.model.LeaderboardPage;
 import com.ectrvia.trivia.model.PlayerAnswer;
-import com.ectrvia.trivia.repository.PlayerRepository;
 import com.ectrvia.trivia.service.GameService;
 import com.ectrvia.trivia.service.ScoreService;
 import org.slf4j.Logger;
@@ -13,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +26,8 @@ public class GameController {
 
     private static final Logger logger = LoggerFactory.getLogger(GameController.class);
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
     @Autowired
     private GameService gameService;
 
@@ -29,33 +35,30 @@ public class GameController {
     private ScoreService scoreService;
 
     @Autowired
-    private PlayerRepository playerRepository;
+    private RoomRuntimeRegistry roomRuntimeRegistry;
 
     @PostMapping("/answer")
-    public ResponseEntity<?> submitAnswer(@PathVariable String roomCode, @RequestBody Map<String, Object> request) {
+    public ResponseEntity<?> submitAnswer(@PathVariable String roomCode, @RequestBody Map<String, Object> request,
+                                          @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
             Long playerId = Long.valueOf(request.get("playerId").toString());
             Long questionId = Long.valueOf(request.get("questionId").toString());
             Integer selectedAnswerIndex = (Integer) request.get("selectedAnswerIndex");
             Integer answerTimeMs = (Integer) request.get("answerTimeMs");
+            String requestId = idempotencyKey != null ? idempotencyKey :
+                    request.get("requestId") != null ? request.get("requestId").toString() : null;
 
             PlayerAnswer result = scoreService.submitAnswer(
-                    roomCode.toUpperCase(), playerId, questionId, selectedAnswerIndex, answerTimeMs);
-
-            // Player score lookup
-            PlayerData player = playerRepository.findById(playerId)
-                    .orElseThrow(() -> new IllegalArgumentException("Player not found"));
+                    roomCode.toUpperCase(), playerId, questionId, selectedAnswerIndex, answerTimeMs, requestId);
 
             logger.info("Answer submitted: roomCode={}, playerId={}, correct={}", 
                     roomCode, playerId, result.getIsCorrect());
 
-            return ResponseEntity.ok(Map.of(
-                    "isCorrect", result.getIsCorrect(),
-                    "correctAnswerIndex", result.getSelectedAnswerIndex(),
-                    "pointsEarned", result.getPointsEarned(),
-                    "newTotalScore", player.getTotalScore(),
-                    "newStreak", result.getStreakAtTime()
-            ));
+            // Queued for the batch scorer or forwarded to the room's owner: the score follows on /user/queue/score
+            if (result.getIsCorrect() == null) {
+                return ResponseEntity.accepted().body(AnswerResult.from(result));
+            }
+            return ResponseEntity.ok(AnswerResult.from(result));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "ANSWER_FAILED", "message", e.getMessage()));
@@ -66,11 +69,28 @@ public class GameController {
         }
     }
 
+    /**
+     * Standings for a room. Without paging parameters the full list is returned as before;
+     * {@code limit}/{@code cursor} page through it and {@code aroundPlayerId} returns the ranks
+     * within {@code radius} of one player.
+     */
     @GetMapping("/leaderboard")
-    public ResponseEntity<?> getLeaderboard(@PathVariable String roomCode) {
+    public ResponseEntity<?> getLeaderboard(@PathVariable String roomCode,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) Long aroundPlayerId,
+                                            @RequestParam(defaultValue = "5") int radius) {
         try {
-            List<LeaderboardEntry> leaderboard = gameService.getLeaderboard(roomCode.toUpperCase());
+            if (aroundPlayerId != null) {
+                return ResponseEntity.ok(gameService.getLeaderboardAround(roomCode.toUpperCase(), aroundPlayerId, radius));
+            }
+            if (limit != null || cursor != null) {
+                return ResponseEntity.ok(gameService.getLeaderboardPage(roomCode.toUpperCase(), cursor,
+                        limit != null ? limit : DEFAULT_PAGE_SIZE));
+            }
+
             GameState gameState = gameService.getGameState(roomCode.toUpperCase());
+            List<LeaderboardEntry> leaderboard = gameState.getLeaderboard();
 
             return ResponseEntity.ok(Map.of(
                     "roomCode", roomCode.toUpperCase(),
@@ -78,6 +98,9 @@ public class GameController {
                     "totalQuestions", gameState.getTotalQuestions(),
                     "leaderboard", leaderboard
             ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "LEADERBOARD_FAILED", "message", e.getMessage()));
         } catch (Exception e) {
             logger.error("Failed to get leaderboard: {}", roomCode, e);
             return ResponseEntity.internalServerError()
@@ -85,11 +108,57 @@ public class GameController {
         }
     }
 
+    /**
+     * Full leaderboard at the latest broadcast version, for clients that missed a delta.
+     */
+    @GetMapping("/leaderboard/snapshot")
+    public ResponseEntity<?> getLeaderboardSnapshot(@PathVariable String roomCode) {
+        try {
+            RoomRuntime runtime = roomRuntimeRegistry.get(roomCode.toUpperCase());
+            if (runtime != null) {
+                return ResponseEntity.ok(runtime.getLeaderboardDeltas().snapshot());
+            }
+            return ResponseEntity.ok(Map.of(
+                    "eventType", LeaderboardDeltas.SNAPSHOT,
+                    "roomCode", roomCode.toUpperCase(),
+                    "version", 0,
+                    "leaderboard", gameService.getLeaderboard(roomCode.toUpperCase())
+            ));
+        } catch (Exception e) {
+            logger.error("Failed to get leaderboard snapshot: {}", roomCode, e);
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Final standings. With {@code includeAllPlayers=false} only the podium and the first page
+     * (with its cursor for {@code /leaderboard}) are sent instead of the whole roster.
+     */
     @GetMapping("/results")
-    public ResponseEntity<?> getFinalResults(@PathVariable String roomCode) {
+    public ResponseEntity<?> getFinalResults(@PathVariable String roomCode,
+                                             @RequestParam(defaultValue = "true") boolean includeAllPlayers,
+                                             @RequestParam(required = false) Integer limit) {
         try {
             GameState gameState = gameService.getGameState(roomCode.toUpperCase());
-            List<LeaderboardEntry> leaderboard = gameService.getLeaderboard(roomCode.toUpperCase());
+
+            if (!includeAllPlayers) {
+                LeaderboardPage firstPage = gameService.getLeaderboardPage(roomCode.toUpperCase(), null,
+                        limit != null ? limit : DEFAULT_PAGE_SIZE);
+                List<LeaderboardEntry> page = firstPage.getLeaderboard();
+                Map<String, Object> results = new HashMap<>();
+                results.put("roomCode", roomCode.toUpperCase());
+                results.put("status", gameState.getStatus());
+                results.put("totalQuestions", gameState.getTotalQuestions());
+                results.put("totalPlayers", firstPage.getTotalPlayers());
+                results.put("podium", page.size() > 3 ? page.subList(0, 3) : page);
+                results.put("players", page);
+                results.put("nextCursor", firstPage.getNextCursor());
+                return ResponseEntity.ok(results);
+            }
+
+            // getGameState already includes the standings
+            List<LeaderboardEntry> leaderboard = gameState.getLeaderboard();
 
             // Get top 3 for podium
             List<LeaderboardEntry> podium = leaderboard.size() > 3 ? 
@@ -102,6 +171,9 @@ public class GameController {
                     "podium", podium,
                     "allPlayers", leaderboard
             ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "RESULTS_FAILED", "message", e.getMessage()));
         } catch (Exception e) {
             logger.error("Failed to get results: {}", roomCode, e);
             return ResponseEntity.internalServerError()
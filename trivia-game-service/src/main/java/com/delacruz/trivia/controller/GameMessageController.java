@@ -0,0 +1,150 @@
+package com.ectrvia.trivia.controller;
+
+import com.ectrvia.trivia.game.LeaderboardDeltas;
+import com.ectrvia.trivia.game.RoomRuntime;
+import com.ectrvia.trivia.game.RoomRuntimeRegistry;
+import com.ectrvia.trivia.model.AnswerResult;
+import com.ectrvia.trivia.model.AnswerSubmission;
+import com.ectrvia.trivia.model.PlayerAnswer;
+import com.ectrvia.trivia.service.GameService;
+import com.ectrvia.trivia.service.ScoreService;
+import com.ectrvia.trivia.websocket.GameWebSocketHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * STOMP counterpart of {@link GameController}. Players send answers on the socket they already hold
+ * and get the result on {@code /user/queue/answer}. A SEND frame carrying a {@code receipt} header
+ * is acknowledged with a RECEIPT frame once the answer has been processed.
+ */
+@Controller
+public class GameMessageController {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameMessageController.class);
+
+    private static final String ANSWER_QUEUE = "/queue/answer";
+
+    @Autowired
+    private ScoreService scoreService;
+
+    @Autowired
+    private GameWebSocketHandler webSocketHandler;
+
+    @Autowired
+    private RoomRuntimeRegistry roomRuntimeRegistry;
+
+    @Autowired
+    private GameService gameService;
+
+    @MessageMapping("/room/{roomCode}/answer")
+    @SendToUser(destinations = ANSWER_QUEUE, broadcast = false)
+    public AnswerResult submitAnswer(@DestinationVariable String roomCode,
+                                     @Payload AnswerSubmission submission,
+                                     StompHeaderAccessor accessor) {
+        try {
+            Long playerId = resolvePlayerId(submission, accessor.getUser());
+            if (submission.getQuestionId() == null || submission.getSelectedAnswerIndex() == null) {
+                throw new IllegalArgumentException("questionId and selectedAnswerIndex are required");
+            }
+
+            PlayerAnswer result = scoreService.submitAnswer(roomCode.toUpperCase(), playerId,
+                    submission.getQuestionId(), submission.getSelectedAnswerIndex(), submission.getAnswerTimeMs(),
+                    submission.getRequestId());
+
+            logger.debug("Answer submitted over STOMP: roomCode={}, playerId={}, correct={}",
+                    roomCode, playerId, result.getIsCorrect());
+            return AnswerResult.from(result);
+        } finally {
+            String receiptId = accessor.getReceipt();
+            if (receiptId != null) {
+                webSocketHandler.sendReceipt(accessor.getSessionId(), receiptId);
+            }
+        }
+    }
+
+    /**
+     * Clock-offset handshake. The client sends its clock in a {@code clientTime} header and gets it
+     * back with the server clock and the open question's start, so it can estimate
+     * offset = serverTime - (clientTime + receivedAt) / 2 and count down against the server.
+     */
+    @MessageMapping("/room/{roomCode}/ping")
+    @SendToUser(destinations = "/queue/clock", broadcast = false)
+    public Map<String, Object> ping(@DestinationVariable String roomCode,
+                                    @Header(value = "clientTime", required = false) Long clientTime) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("eventType", "CLOCK");
+        payload.put("roomCode", roomCode.toUpperCase());
+        payload.put("clientTime", clientTime);
+        payload.put("serverTime", System.currentTimeMillis());
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode.toUpperCase());
+        if (runtime != null && runtime.getQuestionStartTime() != null) {
+            payload.put("questionIndex", runtime.getOpenQuestionIndex());
+            payload.put("questionStartTime", runtime.getQuestionStartTime());
+        }
+        return payload;
+    }
+
+    /**
+     * Full leaderboard at the latest broadcast version, for clients that detected a gap in the deltas.
+     */
+    @MessageMapping("/room/{roomCode}/leaderboard")
+    @SendToUser(destinations = "/queue/leaderboard", broadcast = false)
+    public Map<String, Object> leaderboardSnapshot(@DestinationVariable String roomCode) {
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode.toUpperCase());
+        if (runtime == null) {
+            return Map.of("eventType", LeaderboardDeltas.SNAPSHOT,
+                    "roomCode", roomCode.toUpperCase(),
+                    "version", 0,
+                    "leaderboard", gameService.getLeaderboard(roomCode.toUpperCase()));
+        }
+        return runtime.getLeaderboardDeltas().snapshot();
+    }
+
+    @MessageExceptionHandler(IllegalArgumentException.class)
+    @SendToUser(destinations = ANSWER_QUEUE, broadcast = false)
+    public Map<String, Object> handleAnswerRejected(IllegalArgumentException e) {
+        return Map.of("error", "ANSWER_FAILED", "message", e.getMessage());
+    }
+
+    @MessageExceptionHandler(Exception.class)
+    @SendToUser(destinations = ANSWER_QUEUE, broadcast = false)
+    public Map<String, Object> handleAnswerFailed(Exception e) {
+        logger.error("Failed to submit answer over STOMP", e);
+        return Map.of("error", String.valueOf(e.getMessage()));
+    }
+
+    /**
+     * A session bound to a player (see PlayerPrincipalInterceptor) may only answer as that player.
+     */
+    private Long resolvePlayerId(AnswerSubmission submission, Principal user) {
+        if (user == null) {
+            if (submission.getPlayerId() == null) {
+                throw new IllegalArgumentException("playerId is required");
+            }
+            return submission.getPlayerId();
+        }
+        Long sessionPlayerId;
+        try {
+            sessionPlayerId = Long.valueOf(user.getName());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Session is not bound to a player");
+        }
+        if (submission.getPlayerId() != null && !submission.getPlayerId().equals(sessionPlayerId)) {
+            throw new IllegalArgumentException("playerId does not match the session");
+        }
+        return sessionPlayerId;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ectrvia.trivia.controller;
+
+import com.ectrvia.trivia.game.GlobalLeaderboard;
+import com.ectrvia.trivia.model.GlobalLeaderboardEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All-time leaderboards across rooms, served from the in-memory top-K boards.
+ */
+@RestController
+@RequestMapping("/api/leaderboards")
+public class LeaderboardController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardController.class);
+
+    @Autowired
+    private GlobalLeaderboard globalLeaderboard;
+
+    @GetMapping("/global")
+    public ResponseEntity<?> getGlobalLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return topOf(GlobalLeaderboard.GLOBAL_SCOPE, limit);
+    }
+
+    @GetMapping("/categories/{categoryId}")
+    public ResponseEntity<?> getCategoryLeaderboard(@PathVariable Long categoryId,
+                                                    @RequestParam(defaultValue = "10") int limit) {
+        return topOf(GlobalLeaderboard.categoryScope(categoryId), limit);
+    }
+
+    private ResponseEntity<?> topOf(String scope, int limit) {
+        if (limit < 1 || limit > globalLeaderboard.getSize()) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "LEADERBOARD_FAILED",
+                            "message", "Limit must be between 1 and " + globalLeaderboard.getSize()));
+        }
+        try {
+            List<GlobalLeaderboardEntry> leaderboard = globalLeaderboard.top(scope, limit);
+            return ResponseEntity.ok(Map.of(
+                    "scope", scope,
+                    "leaderboard", leaderboard
+            ));
+        } catch (Exception e) {
+            logger.error("Failed to get leaderboard: {}", scope, e);
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
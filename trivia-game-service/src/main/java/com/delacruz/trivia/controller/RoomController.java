@@ -29,10 +29,15 @@ public class RoomController {
             Boolean isThemeBased = (Boolean) request.getOrDefault("isThemeBased", false);
             Integer timerSeconds = (Integer) request.getOrDefault("questionTimerSeconds", 15);
             Integer maxPlayers = (Integer) request.getOrDefault("maxPlayers", 100);
+            String scoringRuleSet = request.get("scoringRuleSet") != null ?
+                    request.get("scoringRuleSet").toString() : null;
 
-            Room room = roomService.createRoom(categoryId, isThemeBased, timerSeconds, maxPlayers);
+            Room room = roomService.createRoom(categoryId, isThemeBased, timerSeconds, maxPlayers, scoringRuleSet);
             logger.info("Room created: {}", room.getRoomCode());
             return ResponseEntity.status(HttpStatus.CREATED).body(room);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "CREATE_FAILED", "message", e.getMessage()));
         } catch (Exception e) {
             logger.error("Failed to create room", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
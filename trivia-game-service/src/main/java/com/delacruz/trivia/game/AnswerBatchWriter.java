@@ -0,0 +1,111 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.entity.PlayerAnswerData;
+import com.ectrvia.trivia.entity.PlayerData;
+import com.ectrvia.trivia.repository.PlayerAnswerRepository;
+import com.ectrvia.trivia.repository.PlayerRepository;
+import com.ectrvia.trivia.repository.QuestionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes batches for {@link AnswerWriteBehind}, one transaction each: answer rows, and
+ * checkpoints of the players' scores and streaks.
+ *
+ * Answers already stored for the same player and question are skipped, so a replayed
+ * answer doesn't fail the {@code one_answer_per_question} constraint for the whole batch.
+ */
+@Component
+public class AnswerBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerBatchWriter.class);
+
+    @Autowired
+    private PlayerAnswerRepository playerAnswerRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Transactional
+    public void write(List<AnswerWriteBehind.PendingAnswer> batch) {
+        Set<Long> playerIds = batch.stream()
+                .map(AnswerWriteBehind.PendingAnswer::getPlayerId)
+                .collect(Collectors.toSet());
+
+        // Players who left since answering no longer exist and are skipped
+        Map<Long, PlayerData> players = playerRepository.findAllById(playerIds).stream()
+                .collect(Collectors.toMap(PlayerData::getId, Function.identity()));
+
+        Set<Long> questionIds = batch.stream()
+                .map(AnswerWriteBehind.PendingAnswer::getQuestionId)
+                .collect(Collectors.toSet());
+        Set<String> stored = new HashSet<>();
+        for (PlayerAnswerData existing : playerAnswerRepository.findByQuestionIdInAndPlayerIdIn(questionIds, players.keySet())) {
+            stored.add(answerKey(existing.getPlayer().getId(), existing.getQuestion().getId()));
+        }
+
+        List<PlayerAnswerData> rows = new ArrayList<>(batch.size());
+        int duplicates = 0;
+        for (AnswerWriteBehind.PendingAnswer answer : batch) {
+            PlayerData player = players.get(answer.getPlayerId());
+            if (player == null) {
+                continue;
+            }
+            if (!stored.add(answerKey(answer.getPlayerId(), answer.getQuestionId()))) {
+                duplicates++;
+                continue;
+            }
+            PlayerAnswerData row = new PlayerAnswerData();
+            row.setPlayer(player);
+            row.setQuestion(questionRepository.getReferenceById(answer.getQuestionId()));
+            row.setSelectedAnswerIndex(answer.getSelectedAnswerIndex());
+            row.setIsCorrect(answer.isCorrect());
+            row.setAnswerTimeMs(answer.getAnswerTimeMs());
+            row.setPointsEarned(answer.getPointsEarned());
+            row.setStreakAtTime(answer.getStreakAtTime());
+            rows.add(row);
+        }
+        playerAnswerRepository.saveAll(rows);
+
+        if (duplicates > 0) {
+            logger.warn("Skipped {} answers that were already stored", duplicates);
+        }
+        logger.debug("Wrote {} answers", rows.size());
+    }
+
+    private static String answerKey(Long playerId, Long questionId) {
+        return playerId + ":" + questionId;
+    }
+
+    @Transactional
+    public void writeScores(List<ScoreTable.PlayerScore> scores) {
+        Map<Long, ScoreTable.PlayerScore> byPlayer = scores.stream()
+                .collect(Collectors.toMap(ScoreTable.PlayerScore::getPlayerId, Function.identity()));
+
+        List<PlayerData> players = playerRepository.findAllById(byPlayer.keySet());
+        for (PlayerData player : players) {
+            ScoreTable.PlayerScore score = byPlayer.get(player.getId());
+            player.setTotalScore(score.getTotalScore());
+            player.setCurrentStreak(score.getCurrentStreak());
+            // Same row update as the score, so a resume knows which answers the score includes
+            player.setScoredQuestionIndex(score.getScoredQuestionIndex());
+        }
+        playerRepository.saveAll(players);
+
+        logger.debug("Checkpointed scores of {} players", players.size());
+    }
+}
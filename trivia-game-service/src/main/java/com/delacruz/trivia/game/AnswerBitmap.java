@@ -0,0 +1,104 @@
+package com.ectrvia.trivia.game;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent fixed-size bitset keyed by player slot (see {@link ScoreTable}).
+ * Used to track who answered a question and who is expected to answer.
+ */
+public final class AnswerBitmap {
+
+    private final int size;
+    private final AtomicLongArray words;
+
+    public AnswerBitmap(int size) {
+        this.size = size;
+        this.words = new AtomicLongArray((size + 63) >>> 6);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Set the slot's bit. Returns true only for the caller that flipped it from clear to set.
+     */
+    public boolean testAndSet(int slot) {
+        int index = slot >>> 6;
+        long mask = 1L << slot;
+        while (true) {
+            long word = words.get(index);
+            if ((word & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word | mask)) {
+                return true;
+            }
+        }
+    }
+
+    public void clear(int slot) {
+        int index = slot >>> 6;
+        long mask = 1L << slot;
+        while (true) {
+            long word = words.get(index);
+            if ((word & mask) == 0 || words.compareAndSet(index, word, word & ~mask)) {
+                return;
+            }
+        }
+    }
+
+    public boolean get(int slot) {
+        return (words.get(slot >>> 6) & (1L << slot)) != 0;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    /**
+     * First set slot at or after {@code from}, or -1.
+     */
+    public int nextSetBit(int from) {
+        if (from >= size) {
+            return -1;
+        }
+        int index = from >>> 6;
+        long word = words.get(index) & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int slot = (index << 6) + Long.numberOfTrailingZeros(word);
+                return slot < size ? slot : -1;
+            }
+            if (++index == words.length()) {
+                return -1;
+            }
+            word = words.get(index);
+        }
+    }
+
+    public boolean isEmpty() {
+        for (int i = 0; i < words.length(); i++) {
+            if (words.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether every bit set here is also set in {@code other}.
+     */
+    public boolean isSubsetOf(AnswerBitmap other) {
+        for (int i = 0; i < words.length(); i++) {
+            if ((words.get(i) & ~other.words.get(i)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ectrvia.trivia.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * How many players picked each option of one question. Counters are striped ({@link LongAdder}),
+ * so a burst of answers on the same option does not contend on a single cache line.
+ */
+public final class AnswerDistribution {
+
+    private final LongAdder[] counts;
+
+    // Total answers in the last snapshot handed to the distribution tick
+    private final AtomicLong publishedTotal = new AtomicLong();
+
+    public AnswerDistribution(int optionCount) {
+        this.counts = new LongAdder[optionCount];
+        for (int i = 0; i < optionCount; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void record(int optionIndex) {
+        if (optionIndex >= 0 && optionIndex < counts.length) {
+            counts[optionIndex].increment();
+        }
+    }
+
+    /**
+     * Answers per option, in option order.
+     */
+    public List<Long> snapshot() {
+        List<Long> snapshot = new ArrayList<>(counts.length);
+        for (LongAdder count : counts) {
+            snapshot.add(count.sum());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Snapshot for the periodic push, or null if no answer arrived since the last one.
+     */
+    public List<Long> snapshotIfChanged() {
+        List<Long> snapshot = snapshot();
+        long total = 0;
+        for (Long count : snapshot) {
+            total += count;
+        }
+        long previous = publishedTotal.get();
+        if (total == previous || !publishedTotal.compareAndSet(previous, total)) {
+            return null;
+        }
+        return snapshot;
+    }
+}
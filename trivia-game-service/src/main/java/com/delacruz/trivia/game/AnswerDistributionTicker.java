@@ -0,0 +1,90 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.websocket.GameWebSocketHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes the live answer histogram of every open question on this node at a fixed tick
+ * ({@code trivia.answers.distribution-tick-ms}), as an ANSWER_DISTRIBUTION game event.
+ * Rooms where nobody answered since the previous tick are skipped.
+ */
+@Component
+public class AnswerDistributionTicker {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerDistributionTicker.class);
+
+    @Value("${trivia.answers.distribution-tick-ms:1000}")
+    private long tickMs;
+
+    @Autowired
+    private RoomRuntimeRegistry roomRuntimeRegistry;
+
+    @Autowired
+    private GameWebSocketHandler webSocketHandler;
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "answer-distribution-tick");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        for (RoomRuntime runtime : roomRuntimeRegistry.all()) {
+            try {
+                publish(runtime);
+            } catch (Exception e) {
+                logger.error("Failed to push answer distribution for room {}", runtime.getRoomCode(), e);
+            }
+        }
+    }
+
+    private void publish(RoomRuntime runtime) {
+        int questionIndex = runtime.getOpenQuestionIndex();
+        // Closed questions carry their final counts in QUESTION_END instead
+        if (questionIndex < 0 || runtime.answersFor(questionIndex) == null) {
+            return;
+        }
+        AnswerDistribution distribution = runtime.distributionFor(questionIndex);
+        List<Long> counts = distribution != null ? distribution.snapshotIfChanged() : null;
+        if (counts == null) {
+            return;
+        }
+
+        long answered = 0;
+        for (Long count : counts) {
+            answered += count;
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("eventType", "ANSWER_DISTRIBUTION");
+        payload.put("roomCode", runtime.getRoomCode());
+        payload.put("questionIndex", questionIndex);
+        payload.put("answerDistribution", counts);
+        payload.put("answeredCount", answered);
+        payload.put("participantCount", runtime.getParticipantCount());
+        payload.put("serverTimestamp", System.currentTimeMillis());
+        webSocketHandler.broadcastGameEvent(runtime.getRoomCode(), payload);
+    }
+}
@@ -0,0 +1,127 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.model.PlayerAnswer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of answer submissions keyed by the client's request id, so a retried
+ * submission gets the original result (or the original rejection) back without being scored again.
+ * A retry that arrives while the first attempt is still running waits for it.
+ */
+@Component
+public class AnswerIdempotencyCache {
+
+    // Upper bound for a retry waiting on the attempt still in flight
+    private static final long IN_FLIGHT_WAIT_SECONDS = 10;
+
+    @Value("${trivia.answers.idempotency-ttl-ms:60000}")
+    private long ttlMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "answer-idempotency-sweep");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Counter replayCounter;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("trivia.answers.idempotency.entries", entries, Map::size)
+                .description("Answer results kept for retried submissions")
+                .register(meterRegistry);
+        replayCounter = Counter.builder("trivia.answers.idempotency.replayed")
+                .description("Retried answer submissions answered from the cache")
+                .register(meterRegistry);
+        long sweepMs = Math.max(1000, ttlMs / 4);
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepMs, sweepMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Run the submission once per key. Rejections ({@link IllegalArgumentException}) are cached like
+     * results; any other failure is forgotten so the client can retry it.
+     */
+    public PlayerAnswer submit(String roomCode, Long playerId, String requestId, Supplier<PlayerAnswer> submission) {
+        String key = roomCode + ":" + playerId + ":" + requestId;
+        Entry entry = new Entry(System.currentTimeMillis() + ttlMs);
+        Entry existing = entries.putIfAbsent(key, entry);
+        if (existing != null) {
+            replayCounter.increment();
+            return await(existing.result);
+        }
+
+        try {
+            PlayerAnswer result = submission.get();
+            entry.result.complete(result);
+            return result;
+        } catch (IllegalArgumentException e) {
+            entry.result.completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private PlayerAnswer await(CompletableFuture<PlayerAnswer> result) {
+        try {
+            return result.get(IN_FLIGHT_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Answer submission failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Original answer submission is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the original answer submission");
+        }
+    }
+
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now && entry.result.isDone());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final long expiresAt;
+        private final CompletableFuture<PlayerAnswer> result = new CompletableFuture<>();
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.ectrvia.trivia.game;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Persists answers scored in memory in batches, in the order they were accepted, and
+ * checkpoints each room's {@link ScoreTable} to the players table.
+ *
+ * Answers are queued by ScoreService and written by a single flusher thread every
+ * {@code trivia.answers.flush-ms}, at most {@code trivia.answers.batch-size} per transaction.
+ * Scores are only written at checkpoints (question end, game end, hand-over), one batch per room.
+ */
+@Component
+public class AnswerWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerWriteBehind.class);
+
+    // Upper bound for callers that wait for the queue to reach the database
+    private static final long FLUSH_WAIT_SECONDS = 10;
+
+    @Value("${trivia.answers.flush-ms:100}")
+    private long flushMs;
+
+    @Value("${trivia.answers.batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    private AnswerBatchWriter answerBatchWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentLinkedQueue<PendingAnswer> queue = new ConcurrentLinkedQueue<>();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "answer-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("trivia.answers.pending", queue, ConcurrentLinkedQueue::size)
+                .description("Scored answers waiting to be written")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("trivia.answers.flush")
+                .description("Time to write one batch of answers")
+                .register(meterRegistry);
+        flusher.scheduleWithFixedDelay(this::drain, flushMs, flushMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+        flusher.shutdown();
+    }
+
+    public void enqueue(PendingAnswer answer) {
+        queue.add(answer);
+    }
+
+    /**
+     * Write everything queued so far and wait for it.
+     */
+    public void flush() {
+        await(flusher.submit(this::drain));
+    }
+
+    /**
+     * Flush queued answers and write the room's current scores, without waiting.
+     * The scores are captured now, so later answers go to the next checkpoint.
+     */
+    public void checkpoint(RoomRuntime runtime) {
+        List<ScoreTable.PlayerScore> scores = runtime.getScoreTable().snapshot();
+        flusher.execute(() -> writeCheckpoint(runtime.getRoomCode(), scores));
+    }
+
+    /**
+     * Like {@link #checkpoint(RoomRuntime)} but waits, e.g. before the database is read for
+     * final results or another node takes over the room.
+     */
+    public void checkpointAndWait(RoomRuntime runtime) {
+        List<ScoreTable.PlayerScore> scores = runtime.getScoreTable().snapshot();
+        await(flusher.submit(() -> writeCheckpoint(runtime.getRoomCode(), scores)));
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get(FLUSH_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.error("Failed to flush pending answers: {}", e.getMessage(), e);
+        }
+    }
+
+    private void writeCheckpoint(String roomCode, List<ScoreTable.PlayerScore> scores) {
+        drain();
+        try {
+            answerBatchWriter.writeScores(scores);
+        } catch (Exception e) {
+            logger.error("Failed to checkpoint scores for room {}: {}", roomCode, e.getMessage(), e);
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private void drain() {
+        List<PendingAnswer> batch = new ArrayList<>(batchSize);
+        PendingAnswer answer;
+        while ((answer = queue.poll()) != null) {
+            batch.add(answer);
+            if (batch.size() >= batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<PendingAnswer> batch) {
+        long start = System.nanoTime();
+        try {
+            answerBatchWriter.write(batch);
+        } catch (DataIntegrityViolationException e) {
+            // A row stored concurrently with this batch; write the rest one at a time
+            logger.warn("Batch of {} answers hit a constraint, retrying per answer: {}", batch.size(), e.getMessage());
+            writeEach(batch);
+        } catch (Exception e) {
+            logger.error("Failed to write {} answers: {}", batch.size(), e.getMessage(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void writeEach(List<PendingAnswer> batch) {
+        for (PendingAnswer answer : batch) {
+            try {
+                answerBatchWriter.write(List.of(answer));
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("Skipped answer of player {} to question {}: {}",
+                        answer.getPlayerId(), answer.getQuestionId(), e.getMessage());
+            } catch (Exception e) {
+                logger.error("Failed to write answer of player {} to question {}: {}",
+                        answer.getPlayerId(), answer.getQuestionId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * An accepted answer.
+     */
+    public static final class PendingAnswer {
+        private final Long playerId;
+        private final Long questionId;
+        private final Integer selectedAnswerIndex;
+        private final boolean correct;
+        private final Integer answerTimeMs;
+        private final int pointsEarned;
+        private final int streakAtTime;
+
+        public PendingAnswer(Long playerId, Long questionId, Integer selectedAnswerIndex, boolean correct,
+                             Integer answerTimeMs, int pointsEarned, int streakAtTime) {
+            this.playerId = playerId;
+            this.questionId = questionId;
+            this.selectedAnswerIndex = selectedAnswerIndex;
+            this.correct = correct;
+            this.answerTimeMs = answerTimeMs;
+            this.pointsEarned = pointsEarned;
+            this.streakAtTime = streakAtTime;
+        }
+
+        public Long getPlayerId() {
+            return playerId;
+        }
+
+        public Long getQuestionId() {
+            return questionId;
+        }
+
+        public Integer getSelectedAnswerIndex() {
+            return selectedAnswerIndex;
+        }
+
+        public boolean isCorrect() {
+            return correct;
+        }
+
+        public Integer getAnswerTimeMs() {
+            return answerTimeMs;
+        }
+
+        public int getPointsEarned() {
+            return pointsEarned;
+        }
+
+        public int getStreakAtTime() {
+            return streakAtTime;
+        }
+    }
+}
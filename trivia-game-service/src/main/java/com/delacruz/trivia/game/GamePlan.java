@@ -0,0 +1,130 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.kafka.processor.ScoringRule;
+import com.ectrvia.trivia.model.Question;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of everything the game loop needs for a room: the ordered questions,
+ * their answers, correct index and timer. Built once when the game starts so that the
+ * timer-driven loop never has to go back to the database for question data.
+ */
+public final class GamePlan {
+
+    private final String roomCode;
+    private final Long roomId;
+    // Category of a theme-based game, null for custom questions
+    private final Long categoryId;
+    private final List<PlannedQuestion> questions;
+    private final ScoringRule scoringRule;
+
+    public GamePlan(String roomCode, Long roomId, Long categoryId, List<PlannedQuestion> questions,
+                    ScoringRule scoringRule) {
+        this.roomCode = roomCode;
+        this.roomId = roomId;
+        this.categoryId = categoryId;
+        this.questions = List.copyOf(questions);
+        this.scoringRule = scoringRule;
+    }
+
+    public String getRoomCode() {
+        return roomCode;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public ScoringRule getScoringRule() {
+        return scoringRule;
+    }
+
+    public int getTotalQuestions() {
+        return questions.size();
+    }
+
+    public boolean isEmpty() {
+        return questions.isEmpty();
+    }
+
+    public boolean hasQuestion(int questionIndex) {
+        return questionIndex >= 0 && questionIndex < questions.size();
+    }
+
+    public PlannedQuestion getQuestion(int questionIndex) {
+        return questions.get(questionIndex);
+    }
+
+    public List<PlannedQuestion> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * Look up the position of a question in this plan, or -1 if it is not part of the game.
+     */
+    public int indexOf(Long questionId) {
+        for (int i = 0; i < questions.size(); i++) {
+            if (questions.get(i).getQuestionId().equals(questionId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static final class PlannedQuestion {
+
+        private final Long questionId;
+        private final int questionIndex;
+        private final int correctAnswerIndex;
+        private final String correctAnswerText;
+        private final int timerSeconds;
+        private final Question clientQuestion;
+
+        public PlannedQuestion(Long questionId, int questionIndex, int correctAnswerIndex,
+                               String correctAnswerText, int timerSeconds, Question clientQuestion) {
+            this.questionId = questionId;
+            this.questionIndex = questionIndex;
+            this.correctAnswerIndex = correctAnswerIndex;
+            this.correctAnswerText = correctAnswerText;
+            this.timerSeconds = timerSeconds;
+            this.clientQuestion = clientQuestion;
+        }
+
+        public Long getQuestionId() {
+            return questionId;
+        }
+
+        public int getQuestionIndex() {
+            return questionIndex;
+        }
+
+        public int getCorrectAnswerIndex() {
+            return correctAnswerIndex;
+        }
+
+        public String getCorrectAnswerText() {
+            return correctAnswerText;
+        }
+
+        public int getTimerSeconds() {
+            return timerSeconds;
+        }
+
+        /**
+         * Question as sent to players, with the correct answer index hidden.
+         * Shared across every broadcast for the room, so it must not be mutated.
+         */
+        public Question getClientQuestion() {
+            return clientQuestion;
+        }
+
+        public int getAnswerCount() {
+            return clientQuestion.getAnswers() != null ? clientQuestion.getAnswers().size() : 0;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.entity.AnswerData;
+import com.ectrvia.trivia.entity.QuestionData;
+import com.ectrvia.trivia.entity.RoomData;
+import com.ectrvia.trivia.kafka.processor.ScoreCalculator;
+import com.ectrvia.trivia.model.Question;
+import com.ectrvia.trivia.repository.AnswerRepository;
+import com.ectrvia.trivia.repository.QuestionRepository;
+import com.ectrvia.trivia.transform.TransformQuestionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the {@link GamePlan} of every running game on this node, keyed by room code.
+ * A plan is loaded with two queries (questions, then all of their answers) when the game
+ * starts and evicted when the game ends.
+ */
+@Component
+public class GamePlanRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(GamePlanRegistry.class);
+
+    private final ConcurrentHashMap<String, GamePlan> plans = new ConcurrentHashMap<>();
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private TransformQuestionService transformQuestionService;
+
+    @Autowired
+    private ScoreCalculator scoreCalculator;
+
+    /**
+     * Build the plan for a room from the database and register it, replacing any previous plan.
+     */
+    public GamePlan load(RoomData room) {
+        List<QuestionData> questions;
+        Long categoryId = null;
+        if (Boolean.TRUE.equals(room.getIsThemeBased()) && room.getCategory() != null) {
+            categoryId = room.getCategory().getId();
+            questions = questionRepository.findByCategoryIdOrderByQuestionOrderAsc(room.getCategory().getId());
+        } else {
+            questions = questionRepository.findByRoomIdOrderByQuestionOrderAsc(room.getId());
+        }
+
+        Map<Long, List<AnswerData>> answersByQuestion = questions.isEmpty()
+                ? Map.of()
+                : answerRepository.findByQuestionIdInOrderByAnswerIndexAsc(
+                        questions.stream().map(QuestionData::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(answer -> answer.getQuestion().getId()));
+
+        List<GamePlan.PlannedQuestion> planned = new ArrayList<>(questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            QuestionData questionData = questions.get(i);
+            List<AnswerData> answers = answersByQuestion.getOrDefault(questionData.getId(), List.of());
+
+            int correctIndex = questionData.getCorrectAnswerIndex();
+            String correctAnswerText = answers.stream()
+                    .filter(answer -> answer.getAnswerIndex() == correctIndex)
+                    .findFirst()
+                    .map(AnswerData::getAnswerText)
+                    .orElse("");
+            int timerSeconds = questionData.getTimerSeconds() != null
+                    ? questionData.getTimerSeconds()
+                    : room.getQuestionTimerSeconds();
+
+            // Transform question for clients (without correct answer)
+            Question clientQuestion = transformQuestionService.transform(questionData, answers);
+            clientQuestion.setCorrectAnswerIndex(null);
+
+            planned.add(new GamePlan.PlannedQuestion(
+                    questionData.getId(), i, correctIndex, correctAnswerText, timerSeconds, clientQuestion));
+        }
+
+        GamePlan plan = new GamePlan(room.getRoomCode(), room.getId(), categoryId, planned,
+                scoreCalculator.ruleFor(room.getScoringRuleSet()));
+        plans.put(room.getRoomCode(), plan);
+        logger.info("Loaded game plan for room {}: {} questions", room.getRoomCode(), plan.getTotalQuestions());
+        return plan;
+    }
+
+    public GamePlan get(String roomCode) {
+        return plans.get(roomCode);
+    }
+
+    public void evict(String roomCode) {
+        if (plans.remove(roomCode) != null) {
+            logger.debug("Evicted game plan for room {}", roomCode);
+        }
+    }
+
+    public Set<String> roomCodes() {
+        return Set.copyOf(plans.keySet());
+    }
+
+    public int size() {
+        return plans.size();
+    }
+}
@@ -0,0 +1,247 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.kafka.KafkaTopicConfig;
+import com.ectrvia.trivia.kafka.event.LeaderboardSnapshotEvent;
+import com.ectrvia.trivia.kafka.event.ScoreUpdatedEvent;
+import com.ectrvia.trivia.kafka.producer.LeaderboardSnapshotProducer;
+import com.ectrvia.trivia.model.GlobalLeaderboardEntry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * All-time top-K leaderboards across rooms, one global and one per category, aggregated from
+ * score-updated. Changed scopes are snapshotted to the compacted leaderboard-topk topic every
+ * {@code trivia.global-leaderboard.flush-ms} and rebuilt from it on startup, so reads are O(K)
+ * and never touch player_answers.
+ *
+ * Each snapshot records the score-updated offsets it covers. After the restore, the live
+ * consumer starts from the lowest of those, so updates published while this node was down are
+ * replayed; offering an update twice leaves the board unchanged.
+ */
+@Component
+public class GlobalLeaderboard {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalLeaderboard.class);
+
+    public static final String GLOBAL_SCOPE = "global";
+
+    private static final Duration RESTORE_TIMEOUT = Duration.ofSeconds(30);
+
+    @Value("${trivia.global-leaderboard.size:100}")
+    private int size;
+
+    @Value("${trivia.global-leaderboard.flush-ms:5000}")
+    private long flushMs;
+
+    @Autowired
+    private LeaderboardSnapshotProducer leaderboardSnapshotProducer;
+
+    @Autowired
+    private ConsumerFactory<String, LeaderboardSnapshotEvent> leaderboardSnapshotConsumerFactory;
+
+    private final ConcurrentHashMap<String, TopKLeaderboard> scopes = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    // Next score-updated offset per partition whose update has been offered
+    private final ConcurrentHashMap<Integer, Long> consumedOffsets = new ConcurrentHashMap<>();
+
+    // Where the live consumer resumes, per partition; absent partitions are read from the beginning
+    private volatile Map<Integer, Long> resumeOffsets = Map.of();
+    private final CompletableFuture<Void> restored = new CompletableFuture<>();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "global-leaderboard-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        // Same thread as the flushes, so nothing is snapshotted before the restore finished
+        flusher.execute(this::restore);
+        flusher.scheduleAtFixedRate(this::flush, flushMs, flushMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdown();
+        flush();
+    }
+
+    public static String categoryScope(Long categoryId) {
+        return "category:" + categoryId;
+    }
+
+    /**
+     * Run once the snapshots have been restored, successfully or not.
+     */
+    public void whenRestored(Runnable action) {
+        restored.thenRun(action);
+    }
+
+    /**
+     * Offset of score-updated the live consumer should start a partition at, or null to read it
+     * from the beginning. Once updates of a partition were consumed, it resumes after them.
+     */
+    public Long resumeOffset(int partition) {
+        Long consumed = consumedOffsets.get(partition);
+        return consumed != null ? consumed : resumeOffsets.get(partition);
+    }
+
+    /**
+     * Offer a player's new game total to the global board and, for theme-based rooms, to the
+     * board of the room's category. {@code partition} and {@code offset} locate the update on
+     * score-updated.
+     */
+    public void record(ScoreUpdatedEvent event, int partition, long offset) {
+        GlobalLeaderboardEntry entry = new GlobalLeaderboardEntry();
+        entry.setPlayerId(event.getPlayerId());
+        entry.setNickname(event.getPlayerNickname());
+        entry.setRoomCode(event.getRoomCode());
+        entry.setTotalScore(event.getNewTotalScore());
+        entry.setAchievedAt(event.getServerTimestamp());
+
+        offer(GLOBAL_SCOPE, entry);
+        if (event.getCategoryId() != null) {
+            offer(categoryScope(event.getCategoryId()), entry);
+        }
+        consumedOffsets.merge(partition, offset + 1, Math::max);
+    }
+
+    /**
+     * Up to {@code limit} leaders of a scope; empty if nobody has scored in it yet.
+     */
+    public List<GlobalLeaderboardEntry> top(String scope, int limit) {
+        TopKLeaderboard board = scopes.get(scope);
+        return board != null ? board.top(limit) : new ArrayList<>();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    private void offer(String scope, GlobalLeaderboardEntry entry) {
+        if (board(scope).offer(entry)) {
+            dirty.add(scope);
+        }
+    }
+
+    private TopKLeaderboard board(String scope) {
+        return scopes.computeIfAbsent(scope, key -> new TopKLeaderboard(size));
+    }
+
+    private void flush() {
+        // Taken before the boards are read, so each snapshot holds at least these updates
+        Map<Integer, Long> covered = new HashMap<>(consumedOffsets);
+        for (String scope : dirty) {
+            dirty.remove(scope);
+            try {
+                leaderboardSnapshotProducer.publishSnapshot(scope, board(scope).top(size), covered);
+            } catch (Exception e) {
+                dirty.add(scope);
+                logger.error("Failed to snapshot leaderboard scope {}", scope, e);
+            }
+        }
+    }
+
+    /**
+     * Read leaderboard-topk from the beginning and merge every snapshot, then work out where the
+     * live consumer resumes: for each partition, the lowest offset covered by the latest snapshot
+     * of every scope.
+     */
+    private void restore() {
+        Map<String, Map<Integer, Long>> scopeOffsets = new HashMap<>();
+        try (Consumer<String, LeaderboardSnapshotEvent> consumer = leaderboardSnapshotConsumerFactory.createConsumer()) {
+            List<PartitionInfo> infos = consumer.partitionsFor(KafkaTopicConfig.TOPIC_LEADERBOARD_TOPK);
+            if (infos == null || infos.isEmpty()) {
+                logger.info("No leaderboard snapshots to restore");
+                return;
+            }
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (PartitionInfo info : infos) {
+                partitions.add(new TopicPartition(info.topic(), info.partition()));
+            }
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+            long deadline = System.currentTimeMillis() + RESTORE_TIMEOUT.toMillis();
+            int snapshots = 0;
+            while (!caughtUp(consumer, endOffsets) && System.currentTimeMillis() < deadline) {
+                for (ConsumerRecord<String, LeaderboardSnapshotEvent> record : consumer.poll(Duration.ofMillis(500))) {
+                    LeaderboardSnapshotEvent snapshot = record.value();
+                    if (record.key() == null || snapshot == null || snapshot.getEntries() == null) {
+                        continue;
+                    }
+                    TopKLeaderboard board = board(record.key());
+                    snapshot.getEntries().forEach(board::offer);
+                    scopeOffsets.put(record.key(), snapshot.getScoreOffsets() != null
+                            ? snapshot.getScoreOffsets() : Map.of());
+                    snapshots++;
+                }
+            }
+            if (caughtUp(consumer, endOffsets)) {
+                resumeOffsets = lowestOffsets(scopeOffsets.values());
+            } else {
+                logger.warn("Leaderboard snapshots not fully read in {}; replaying all score updates", RESTORE_TIMEOUT);
+            }
+            logger.info("Restored {} leaderboard scopes from {} snapshots, resuming at {}",
+                    scopes.size(), snapshots, resumeOffsets);
+        } catch (Exception e) {
+            logger.error("Failed to restore global leaderboards; replaying all score updates", e);
+        } finally {
+            restored.complete(null);
+        }
+    }
+
+    /**
+     * Per partition, the lowest offset every scope covers; a partition missing from any scope is
+     * left out, so it is read from the beginning.
+     */
+    private static Map<Integer, Long> lowestOffsets(Collection<Map<Integer, Long>> offsets) {
+        Map<Integer, Long> lowest = null;
+        for (Map<Integer, Long> scope : offsets) {
+            if (lowest == null) {
+                lowest = new HashMap<>(scope);
+                continue;
+            }
+            lowest.keySet().retainAll(scope.keySet());
+            for (Map.Entry<Integer, Long> offset : scope.entrySet()) {
+                lowest.computeIfPresent(offset.getKey(), (partition, current) -> Math.min(current, offset.getValue()));
+            }
+        }
+        return lowest != null ? Map.copyOf(lowest) : Map.of();
+    }
+
+    private boolean caughtUp(Consumer<?, ?> consumer, Map<TopicPartition, Long> endOffsets) {
+        for (Map.Entry<TopicPartition, Long> end : endOffsets.entrySet()) {
+            if (consumer.position(end.getKey()) < end.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
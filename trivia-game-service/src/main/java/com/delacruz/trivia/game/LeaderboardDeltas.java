@@ -0,0 +1,99 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.model.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Versioned leaderboard broadcasts for one room. Each publish gets the next version and carries
+ * only the entries whose rank, score or streak changed since the previous one, plus players who
+ * left. The first publish is a full snapshot. A client that sees a version other than the one it
+ * expects (its version + 1) re-syncs from {@link #snapshot()}. Snapshots always replace the
+ * client's standings; version 0 marks one read from the database for a room not held in memory.
+ */
+public final class LeaderboardDeltas {
+
+    public static final String SNAPSHOT = "LEADERBOARD_SNAPSHOT";
+    public static final String DELTA = "LEADERBOARD_DELTA";
+
+    private final String roomCode;
+
+    // Standings as of the last publish, by player; only touched under this object's monitor
+    private final Map<Long, LeaderboardEntry> published = new HashMap<>();
+    private long version;
+
+    // Full standings matching the latest version, served to clients that missed a delta
+    private volatile Map<String, Object> snapshot;
+
+    public LeaderboardDeltas(String roomCode) {
+        this.roomCode = roomCode;
+        this.snapshot = snapshotPayload(0, List.of());
+    }
+
+    /**
+     * Record new standings and return the payload to broadcast for them.
+     */
+    public synchronized Map<String, Object> publish(List<LeaderboardEntry> standings) {
+        long baseVersion = version;
+        version++;
+        snapshot = snapshotPayload(version, standings);
+
+        Map<String, Object> payload;
+        if (baseVersion == 0) {
+            payload = snapshot;
+        } else {
+            List<LeaderboardEntry> changed = new ArrayList<>();
+            Set<Long> present = new HashSet<>(standings.size() * 2);
+            for (LeaderboardEntry entry : standings) {
+                present.add(entry.getPlayerId());
+                LeaderboardEntry previous = published.get(entry.getPlayerId());
+                if (previous == null || !previous.equals(entry)) {
+                    changed.add(entry);
+                }
+            }
+            List<Long> removed = new ArrayList<>();
+            for (Long playerId : published.keySet()) {
+                if (!present.contains(playerId)) {
+                    removed.add(playerId);
+                }
+            }
+
+            payload = new HashMap<>();
+            payload.put("eventType", DELTA);
+            payload.put("roomCode", roomCode);
+            payload.put("version", version);
+            payload.put("baseVersion", baseVersion);
+            payload.put("playerCount", standings.size());
+            payload.put("changed", changed);
+            payload.put("removed", removed);
+        }
+
+        published.clear();
+        for (LeaderboardEntry entry : standings) {
+            published.put(entry.getPlayerId(), entry);
+        }
+        return payload;
+    }
+
+    /**
+     * Full standings at the latest version (version 0 before the first publish).
+     */
+    public Map<String, Object> snapshot() {
+        return snapshot;
+    }
+
+    private Map<String, Object> snapshotPayload(long version, List<LeaderboardEntry> standings) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("eventType", SNAPSHOT);
+        payload.put("roomCode", roomCode);
+        payload.put("version", version);
+        payload.put("playerCount", standings.size());
+        payload.put("leaderboard", standings);
+        return Map.copyOf(payload);
+    }
+}
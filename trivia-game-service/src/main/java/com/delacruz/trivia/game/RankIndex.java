@@ -0,0 +1,202 @@
+package com.ectrvia.trivia.game;
+
+import java.util.SplittableRandom;
+
+/**
+ * Order-statistic tree over the players of one room: a treap with subtree sizes, one
+ * preallocated node per player slot. Players are ordered by score, highest first, then by slot
+ * (join order), matching the leaderboard. Repositioning a player, rank lookups and selecting
+ * by rank are O(log n) and allocate nothing.
+ *
+ * Not thread-safe; {@link ScoreTable} guards it.
+ */
+final class RankIndex {
+
+    private static final int NIL = -1;
+
+    private final long[] keys;
+    private final int[] priorities;
+    private final int[] left;
+    private final int[] right;
+    private final int[] sizes;
+    private final boolean[] linked;
+    private int root = NIL;
+
+    // Results of split(), kept in fields so splitting needs no allocation
+    private int splitLeft;
+    private int splitRight;
+
+    RankIndex(int capacity) {
+        keys = new long[capacity];
+        priorities = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        sizes = new int[capacity];
+        linked = new boolean[capacity];
+        SplittableRandom random = new SplittableRandom();
+        for (int slot = 0; slot < capacity; slot++) {
+            priorities[slot] = random.nextInt();
+        }
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    boolean contains(int slot) {
+        return linked[slot];
+    }
+
+    /**
+     * Insert a slot with its score, or move it if it is already indexed.
+     */
+    void reposition(int slot, int score) {
+        if (linked[slot]) {
+            if (keys[slot] == key(slot, score)) {
+                return;
+            }
+            remove(slot);
+        }
+        keys[slot] = key(slot, score);
+        left[slot] = NIL;
+        right[slot] = NIL;
+        sizes[slot] = 1;
+        split(root, keys[slot]);
+        root = merge(merge(splitLeft, slot), splitRight);
+        linked[slot] = true;
+    }
+
+    void remove(int slot) {
+        if (!linked[slot]) {
+            return;
+        }
+        long key = keys[slot];
+        split(root, key);
+        int before = splitLeft;
+        // Keys are unique, so the right part starts with exactly this slot
+        split(splitRight, key - 1);
+        root = merge(before, splitRight);
+        linked[slot] = false;
+    }
+
+    /**
+     * 1-based rank of an indexed slot, or 0 if it is not indexed.
+     */
+    int rankOf(int slot) {
+        if (!linked[slot]) {
+            return 0;
+        }
+        long key = keys[slot];
+        int better = 0;
+        int node = root;
+        while (node != NIL) {
+            if (keys[node] > key) {
+                better += size(left[node]) + 1;
+                node = right[node];
+            } else if (keys[node] < key) {
+                node = left[node];
+            } else {
+                better += size(left[node]);
+                break;
+            }
+        }
+        return better + 1;
+    }
+
+    /**
+     * Slot holding a 1-based rank, or -1 if the rank is out of range.
+     */
+    int slotAt(int rank) {
+        if (rank < 1 || rank > size(root)) {
+            return -1;
+        }
+        int node = root;
+        int remaining = rank;
+        while (node != NIL) {
+            int leftSize = size(left[node]);
+            if (remaining <= leftSize) {
+                node = left[node];
+            } else if (remaining == leftSize + 1) {
+                return node;
+            } else {
+                remaining -= leftSize + 1;
+                node = right[node];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Number of indexed slots ranked at or above the position a slot would hold with a score,
+     * whether or not it is indexed with that score now.
+     */
+    int countAtOrAbove(int slot, int score) {
+        long key = key(slot, score);
+        int count = 0;
+        int node = root;
+        while (node != NIL) {
+            if (keys[node] >= key) {
+                count += size(left[node]) + 1;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return count;
+    }
+
+    // Higher key ranks first: score in the high bits, lower slot wins ties
+    private static long key(int slot, int score) {
+        return ((long) score << 32) | (Integer.MAX_VALUE - slot);
+    }
+
+    private int size(int node) {
+        return node == NIL ? 0 : sizes[node];
+    }
+
+    private void update(int node) {
+        sizes[node] = size(left[node]) + size(right[node]) + 1;
+    }
+
+    /**
+     * Split a subtree into keys above {@code key} (splitLeft, ranked first) and the rest (splitRight).
+     */
+    private void split(int node, long key) {
+        if (node == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+            return;
+        }
+        if (keys[node] > key) {
+            split(right[node], key);
+            right[node] = splitLeft;
+            update(node);
+            splitLeft = node;
+        } else {
+            split(left[node], key);
+            left[node] = splitRight;
+            update(node);
+            splitRight = node;
+        }
+    }
+
+    /**
+     * Join two subtrees where every key in {@code first} ranks ahead of every key in {@code second}.
+     */
+    private int merge(int first, int second) {
+        if (first == NIL) {
+            return second;
+        }
+        if (second == NIL) {
+            return first;
+        }
+        if (priorities[first] > priorities[second]) {
+            right[first] = merge(right[first], second);
+            update(first);
+            return first;
+        }
+        left[second] = merge(first, left[second]);
+        update(second);
+        return second;
+    }
+}
@@ -0,0 +1,259 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.kafka.event.EncodedGameEvent;
+import com.ectrvia.trivia.model.LeaderboardEntry;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mutable per-room state of a running game that lives only in memory:
+ * live scores, who is expected to answer, who has answered the open
+ * question and which question has already been closed. It also keeps
+ * frames prepared during the delay between questions, so the next
+ * transition only has to send them.
+ */
+public class RoomRuntime {
+
+    private final String roomCode;
+    private final Long roomId;
+
+    // Every player in join order, scored in memory and checkpointed by AnswerWriteBehind
+    private final ScoreTable scoreTable;
+
+    // Slots of players expected to answer each question
+    private final AnswerBitmap participants;
+
+    // Slots that claimed and that finished scoring an answer to the open question, and what they
+    // picked; replaced together with the index when a question opens
+    private volatile OpenQuestion openQuestion = new OpenQuestion(-1, new AnswerBitmap(0), new AnswerBitmap(0),
+            new AnswerDistribution(0), 0, 0);
+    private final AtomicInteger closedQuestionIndex = new AtomicInteger(-1);
+
+    // Versioned leaderboard broadcasts sent at each question end
+    private final LeaderboardDeltas leaderboardDeltas;
+
+    // Built in the background during the inter-question delay; only touched on the room's lane
+    private int preparedQuestionIndex = -1;
+    private EncodedGameEvent preparedQuestionStart;
+    private List<LeaderboardEntry> finalLeaderboard;
+    private EncodedGameEvent preparedGameFinished;
+
+    public RoomRuntime(String roomCode, Long roomId, ScoreTable scoreTable, Set<Long> participants) {
+        this.roomCode = roomCode;
+        this.roomId = roomId;
+        this.scoreTable = scoreTable;
+        this.leaderboardDeltas = new LeaderboardDeltas(roomCode);
+        this.participants = new AnswerBitmap(scoreTable.size());
+        for (Long playerId : participants) {
+            int slot = scoreTable.slotOf(playerId);
+            if (slot >= 0) {
+                this.participants.testAndSet(slot);
+            }
+        }
+    }
+
+    public String getRoomCode() {
+        return roomCode;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public ScoreTable getScoreTable() {
+        return scoreTable;
+    }
+
+    /**
+     * Current standings, highest score first; ties keep join order like the database query.
+     */
+    public List<LeaderboardEntry> getLeaderboard() {
+        return scoreTable.leaderboard();
+    }
+
+    public LeaderboardDeltas getLeaderboardDeltas() {
+        return leaderboardDeltas;
+    }
+
+    public int getOpenQuestionIndex() {
+        return openQuestion.index;
+    }
+
+    public int getParticipantCount() {
+        return participants.cardinality();
+    }
+
+    /**
+     * Open a question that started at {@code startedAt} (epoch ms; earlier than now when a game
+     * is resumed). Answer times are measured from here on the monotonic clock.
+     */
+    public void openQuestion(int questionIndex, int optionCount, long startedAt) {
+        long now = System.currentTimeMillis();
+        long startNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(Math.max(0, now - startedAt));
+        openQuestion = new OpenQuestion(questionIndex, new AnswerBitmap(scoreTable.size()),
+                new AnswerBitmap(scoreTable.size()), new AnswerDistribution(optionCount), startedAt, startNanos);
+    }
+
+    /**
+     * Epoch ms at which the latest opened question started, or null if none has been opened.
+     */
+    public Long getQuestionStartTime() {
+        OpenQuestion current = openQuestion;
+        return current.index >= 0 ? current.startedAt : null;
+    }
+
+    /**
+     * Milliseconds since a question started, or -1 if it is not the latest opened question.
+     */
+    public long elapsedMs(int questionIndex) {
+        OpenQuestion current = openQuestion;
+        if (current.index != questionIndex) {
+            return -1;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - current.startNanos);
+    }
+
+    /**
+     * Claimed-slots bitmap of a question, or null if it is not open (not opened yet, or already
+     * closed, so answers cannot arrive after QUESTION_END revealed the correct one).
+     * Claiming a slot with {@link AnswerBitmap#testAndSet} is the duplicate-answer check.
+     */
+    public AnswerBitmap answersFor(int questionIndex) {
+        OpenQuestion current = openQuestion;
+        if (current.index != questionIndex || closedQuestionIndex.get() >= questionIndex) {
+            return null;
+        }
+        return current.claimed;
+    }
+
+    /**
+     * Claimed-slots bitmap for an answer accepted at {@code acceptedAt} (epoch ms) and scored
+     * later, i.e. queued on answer-submitted or forwarded by another node. Unlike
+     * {@link #answersFor(int)} it stays available after the question closed, as long as the
+     * answer was accepted before the close; ScoreTable rejects it once QUESTION_END sealed it.
+     */
+    public AnswerBitmap answersFor(int questionIndex, long acceptedAt) {
+        OpenQuestion current = openQuestion;
+        if (current.index != questionIndex || acceptedAt < current.startedAt) {
+            return null;
+        }
+        if (closedQuestionIndex.get() >= questionIndex && acceptedAt > current.closedAt) {
+            return null;
+        }
+        return current.claimed;
+    }
+
+    /**
+     * Option counters of a question, or null if it is not the latest opened question.
+     * They stay readable after the question closes, until the next one opens.
+     */
+    public AnswerDistribution distributionFor(int questionIndex) {
+        OpenQuestion current = openQuestion;
+        return current.index == questionIndex ? current.distribution : null;
+    }
+
+    /**
+     * Record that a player's answer has been scored and report whether every participant's has.
+     * A claimed answer still being scored does not count, so an early close never ends the
+     * question before it reached the score table.
+     */
+    public boolean recordAnswer(int questionIndex, Long playerId) {
+        OpenQuestion current = openQuestion;
+        int slot = scoreTable.slotOf(playerId);
+        if (current.index != questionIndex || slot < 0) {
+            return false;
+        }
+        current.claimed.testAndSet(slot);
+        current.answered.testAndSet(slot);
+        return allAnswered();
+    }
+
+    /**
+     * Remove a player who left mid-game and report whether everyone remaining has answered.
+     */
+    public boolean removeParticipant(Long playerId) {
+        int slot = scoreTable.slotOf(playerId);
+        scoreTable.remove(playerId);
+        if (slot < 0 || !participants.get(slot)) {
+            return false;
+        }
+        participants.clear(slot);
+        return allAnswered();
+    }
+
+    public boolean allAnswered() {
+        return !participants.isEmpty() && participants.isSubsetOf(openQuestion.answered);
+    }
+
+    /**
+     * Claim the right to end a question. Returns true exactly once per question, so a timer
+     * deadline and an early close can never both end it.
+     */
+    public boolean tryCloseQuestion(int questionIndex) {
+        OpenQuestion current = openQuestion;
+        if (current.index == questionIndex && closedQuestionIndex.get() < questionIndex) {
+            // Set before the close is visible; a losing racer only moves it by the race's length
+            current.closedAt = System.currentTimeMillis();
+        }
+        while (true) {
+            int closed = closedQuestionIndex.get();
+            if (closed >= questionIndex) {
+                return false;
+            }
+            if (closedQuestionIndex.compareAndSet(closed, questionIndex)) {
+                return true;
+            }
+        }
+    }
+
+    public void prepareQuestionStart(int questionIndex, EncodedGameEvent event) {
+        preparedQuestionIndex = questionIndex;
+        preparedQuestionStart = event;
+    }
+
+    /**
+     * Hand out the QUESTION_START prepared for this question, if any. It is used at most once.
+     */
+    public EncodedGameEvent takePreparedQuestionStart(int questionIndex) {
+        EncodedGameEvent event = preparedQuestionIndex == questionIndex ? preparedQuestionStart : null;
+        preparedQuestionIndex = -1;
+        preparedQuestionStart = null;
+        return event;
+    }
+
+    public void prepareGameFinished(List<LeaderboardEntry> leaderboard, EncodedGameEvent event) {
+        finalLeaderboard = leaderboard;
+        preparedGameFinished = event;
+    }
+
+    public List<LeaderboardEntry> getFinalLeaderboard() {
+        return finalLeaderboard;
+    }
+
+    public EncodedGameEvent getPreparedGameFinished() {
+        return preparedGameFinished;
+    }
+
+    private static final class OpenQuestion {
+        private final int index;
+        private final AnswerBitmap claimed;
+        private final AnswerBitmap answered;
+        private final AnswerDistribution distribution;
+        private final long startedAt;
+        private final long startNanos;
+        private volatile long closedAt = Long.MAX_VALUE;
+
+        private OpenQuestion(int index, AnswerBitmap claimed, AnswerBitmap answered,
+                             AnswerDistribution distribution, long startedAt, long startNanos) {
+            this.index = index;
+            this.claimed = claimed;
+            this.answered = answered;
+            this.distribution = distribution;
+            this.startedAt = startedAt;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.entity.PlayerData;
+import com.ectrvia.trivia.entity.RoomData;
+import com.ectrvia.trivia.repository.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the {@link RoomRuntime} of every running game on this node, keyed by room code.
+ */
+@Component
+public class RoomRuntimeRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomRuntimeRegistry.class);
+
+    private final ConcurrentHashMap<String, RoomRuntime> runtimes = new ConcurrentHashMap<>();
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    /**
+     * Create the runtime for a room from its current players, replacing any previous one.
+     * In custom-question games the host only spectates, so they are not expected to answer.
+     */
+    public RoomRuntime load(RoomData room) {
+        boolean hostSpectates = !Boolean.TRUE.equals(room.getIsThemeBased());
+        List<PlayerData> players = playerRepository.findByRoomIdOrderByJoinOrderAsc(room.getId());
+        Set<Long> participants = players.stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsConnected()))
+                .filter(p -> !(hostSpectates && Boolean.TRUE.equals(p.getIsHost())))
+                .map(PlayerData::getId)
+                .collect(Collectors.toSet());
+        ScoreTable scoreTable = new ScoreTable(
+                players.stream().map(PlayerData::getId).collect(Collectors.toList()),
+                players.stream().map(PlayerData::getNickname).collect(Collectors.toList()),
+                players.stream().map(p -> p.getTotalScore() != null ? p.getTotalScore() : 0).collect(Collectors.toList()),
+                players.stream().map(p -> p.getCurrentStreak() != null ? p.getCurrentStreak() : 0).collect(Collectors.toList()),
+                players.stream().map(p -> p.getScoredQuestionIndex() != null ? p.getScoredQuestionIndex() : -1).collect(Collectors.toList()));
+        RoomRuntime runtime = new RoomRuntime(room.getRoomCode(), room.getId(), scoreTable, participants);
+        runtimes.put(room.getRoomCode(), runtime);
+        logger.debug("Loaded runtime for room {}: {} participants", room.getRoomCode(), participants.size());
+        return runtime;
+    }
+
+    public RoomRuntime get(String roomCode) {
+        return runtimes.get(roomCode);
+    }
+
+    public Collection<RoomRuntime> all() {
+        return runtimes.values();
+    }
+
+    public void evict(String roomCode) {
+        runtimes.remove(roomCode);
+    }
+
+    public int size() {
+        return runtimes.size();
+    }
+}
@@ -0,0 +1,94 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.repository.RoomRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Writes room progress (current question and its deadline) behind the game loop.
+ *
+ * Only the latest progress per room matters, so a write that has not been flushed yet is
+ * replaced by the next one. A single writer thread keeps writes for a room in order.
+ */
+@Component
+public class RoomStateWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomStateWriter.class);
+
+    // Upper bound for callers that wait for queued writes
+    private static final long WRITE_WAIT_SECONDS = 10;
+
+    private final ConcurrentHashMap<String, QuestionProgress> pending = new ConcurrentHashMap<>();
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "room-state-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    /**
+     * Queue the room's current question index and deadline (epoch ms, null between questions).
+     */
+    public void writeQuestionProgress(String roomCode, int questionIndex, Long deadlineAt) {
+        if (pending.put(roomCode, new QuestionProgress(questionIndex, deadlineAt)) == null) {
+            writer.execute(() -> flush(roomCode));
+        }
+    }
+
+    /**
+     * Wait until every progress write queued so far is in the database.
+     */
+    public void awaitWrites() {
+        try {
+            writer.submit(() -> { }).get(WRITE_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.error("Failed to wait for room progress writes: {}", e.getMessage(), e);
+        }
+    }
+
+    private void flush(String roomCode) {
+        QuestionProgress progress = pending.remove(roomCode);
+        if (progress == null) {
+            return;
+        }
+        try {
+            roomRepository.updateQuestionProgress(roomCode, progress.questionIndex, progress.deadlineAt);
+        } catch (Exception e) {
+            logger.error("Failed to persist progress for room {}: {}", roomCode, e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Let queued writes land so a restarted node resumes from the latest deadline
+        writer.shutdown();
+        if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+            logger.warn("Room state writer did not finish, {} rooms not persisted", pending.size());
+        }
+    }
+
+    private static final class QuestionProgress {
+        private final int questionIndex;
+        private final Long deadlineAt;
+
+        private QuestionProgress(int questionIndex, Long deadlineAt) {
+            this.questionIndex = questionIndex;
+            this.deadlineAt = deadlineAt;
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.kafka.processor.ScoringRule;
+import com.ectrvia.trivia.model.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free score and streak table of one room, indexed by player slot (join order).
+ *
+ * Each slot is a single long updated by compare-and-set, packing the total score (high 32 bits),
+ * the current streak (16 bits) and the last answered question index + 1 (16 bits). Scoring an
+ * answer and the duplicate check are therefore one atomic step, and concurrent answers from the
+ * same player cannot lose updates. The table is checkpointed to the players table by
+ * AnswerWriteBehind.
+ *
+ * Ranks come from a {@link RankIndex} under a lock of its own, so standings and single ranks
+ * never need a sort. Scoring never takes that lock: it only flags the slot as dirty, and dirty
+ * slots are repositioned in one batch by the next rank read, on the room's lane or a reader's
+ * thread.
+ */
+public final class ScoreTable {
+
+    private static final long MASK_16 = 0xFFFFL;
+
+    private final Long[] playerIds;
+    private final String[] nicknames;
+    private final Map<Long, Integer> slotByPlayer;
+    private final AtomicLongArray cells;
+
+    // 1 while the player is in the room, 0 once they left
+    private final AtomicIntegerArray present;
+
+    // Players still in the room by rank; guarded by its own monitor
+    private final RankIndex ranks;
+
+    // Slots whose score changed since they were last repositioned in ranks
+    private final AnswerBitmap dirty;
+
+    /**
+     * @param scoredQuestionIndexes per player, the last question already included in their score
+     */
+    public ScoreTable(List<Long> playerIds, List<String> nicknames, List<Integer> scores, List<Integer> streaks,
+                      List<Integer> scoredQuestionIndexes) {
+        int size = playerIds.size();
+        this.playerIds = playerIds.toArray(new Long[0]);
+        this.nicknames = nicknames.toArray(new String[0]);
+        this.slotByPlayer = new HashMap<>(size * 2);
+        this.cells = new AtomicLongArray(size);
+        this.present = new AtomicIntegerArray(size);
+        this.ranks = new RankIndex(size);
+        this.dirty = new AnswerBitmap(size);
+        for (int slot = 0; slot < size; slot++) {
+            slotByPlayer.put(this.playerIds[slot], slot);
+            cells.set(slot, pack(scores.get(slot), streaks.get(slot), scoredQuestionIndexes.get(slot)));
+            present.set(slot, 1);
+            ranks.reposition(slot, scores.get(slot));
+        }
+    }
+
+    public int size() {
+        return playerIds.length;
+    }
+
+    /**
+     * Slot of a player still in the room, or -1.
+     */
+    public int slotOf(Long playerId) {
+        Integer slot = slotByPlayer.get(playerId);
+        return slot != null && present.get(slot) == 1 ? slot : -1;
+    }
+
+    public Long playerId(int slot) {
+        return playerIds[slot];
+    }
+
+    public String nickname(int slot) {
+        return nicknames[slot];
+    }
+
+    public int totalScore(int slot) {
+        return score(cells.get(slot));
+    }
+
+    public int currentStreak(int slot) {
+        return streak(cells.get(slot));
+    }
+
+    public void remove(Long playerId) {
+        Integer slot = slotByPlayer.get(playerId);
+        if (slot != null) {
+            present.set(slot, 0);
+            synchronized (ranks) {
+                ranks.remove(slot);
+            }
+        }
+    }
+
+    /**
+     * 1-based rank of a player still in the room, or 0. Takes the rank lock, so the answer path
+     * calls it from the room's lane rather than inline.
+     */
+    public int rankOf(int slot) {
+        synchronized (ranks) {
+            reindex();
+            return ranks.rankOf(slot);
+        }
+    }
+
+    /**
+     * Score a player's answer to a question with the room's rule. The rule gets the streak before
+     * this answer and is evaluated again if another update races.
+     *
+     * @return the outcome, or null if the player already answered this (or a later) question, or
+     *         it was closed
+     */
+    public Outcome answer(int slot, int questionIndex, ScoringRule rule,
+                          boolean isCorrect, long answerTimeMs, int timerSeconds) {
+        while (true) {
+            long cell = cells.get(slot);
+            if (answeredIndex(cell) >= questionIndex) {
+                return null;
+            }
+            int previousStreak = streak(cell);
+            long result = rule.score(isCorrect, answerTimeMs, timerSeconds, previousStreak);
+            Outcome outcome = apply(slot, cell, questionIndex, previousStreak, result);
+            if (outcome != null) {
+                return outcome;
+            }
+        }
+    }
+
+    /**
+     * Re-apply an answer that was already scored and persisted, e.g. when a game is resumed.
+     *
+     * @return the outcome, or null if the player already answered this (or a later) question
+     */
+    public Outcome replay(int slot, int questionIndex, int pointsEarned, int newStreak) {
+        long result = ScoringRule.pack(pointsEarned, newStreak);
+        while (true) {
+            long cell = cells.get(slot);
+            if (answeredIndex(cell) >= questionIndex) {
+                return null;
+            }
+            Outcome outcome = apply(slot, cell, questionIndex, streak(cell), result);
+            if (outcome != null) {
+                return outcome;
+            }
+        }
+    }
+
+    /**
+     * Seal a question: every slot is marked as having answered it, without changing scores or
+     * streaks. An answer racing with this either lands first or fails its compare-and-set and is
+     * rejected, so standings read afterwards include every answer the question will ever get.
+     */
+    public void close(int questionIndex) {
+        for (int slot = 0; slot < cells.length(); slot++) {
+            while (true) {
+                long cell = cells.get(slot);
+                if (answeredIndex(cell) >= questionIndex
+                        || cells.compareAndSet(slot, cell, pack(score(cell), streak(cell), questionIndex))) {
+                    break;
+                }
+            }
+        }
+        // An answer that landed before the seal may not have flagged its slot yet
+        synchronized (ranks) {
+            for (int slot = 0; slot < cells.length(); slot++) {
+                if (present.get(slot) == 1) {
+                    ranks.reposition(slot, score(cells.get(slot)));
+                }
+            }
+        }
+    }
+
+    private Outcome apply(int slot, long cell, int questionIndex, int previousStreak, long result) {
+        int pointsEarned = ScoringRule.pointsEarned(result);
+        int newStreak = ScoringRule.newStreak(result);
+        int totalScore = score(cell) + pointsEarned;
+        if (!cells.compareAndSet(slot, cell, pack(totalScore, newStreak, questionIndex))) {
+            return null;
+        }
+        // Flagged after the compare-and-set, so a reindex that clears it first still sees this score
+        dirty.testAndSet(slot);
+        return new Outcome(pointsEarned, newStreak, previousStreak, totalScore);
+    }
+
+    /**
+     * Move every dirty slot to its current score. Callers hold the rank lock. The flag is cleared
+     * before the score is read, so an update racing with this flags the slot again and is picked
+     * up by the next reindex.
+     */
+    private void reindex() {
+        for (int slot = dirty.nextSetBit(0); slot >= 0; slot = dirty.nextSetBit(slot + 1)) {
+            dirty.clear(slot);
+            if (present.get(slot) == 1) {
+                ranks.reposition(slot, score(cells.get(slot)));
+            }
+        }
+    }
+
+    /**
+     * Current standings of players still in the room, highest score first; ties keep join order.
+     */
+    public List<LeaderboardEntry> leaderboard() {
+        synchronized (ranks) {
+            reindex();
+            int size = ranks.size();
+            List<LeaderboardEntry> entries = new ArrayList<>(size);
+            for (int rank = 1; rank <= size; rank++) {
+                entries.add(entry(ranks.slotAt(rank), rank));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Number of players still in the room, i.e. the lowest rank.
+     */
+    public int rankedCount() {
+        synchronized (ranks) {
+            reindex();
+            return ranks.size();
+        }
+    }
+
+    /**
+     * Up to {@code limit} standings starting at a 1-based rank.
+     */
+    public List<LeaderboardEntry> leaderboard(int fromRank, int limit) {
+        synchronized (ranks) {
+            reindex();
+            int toRank = (int) Math.min(ranks.size(), (long) fromRank + limit - 1);
+            List<LeaderboardEntry> entries = new ArrayList<>(Math.max(0, toRank - fromRank + 1));
+            for (int rank = Math.max(1, fromRank); rank <= toRank; rank++) {
+                entries.add(entry(ranks.slotAt(rank), rank));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Standings from {@code radius} ranks above a player to {@code radius} ranks below, or an
+     * empty list if the player is not in the room.
+     */
+    public List<LeaderboardEntry> around(Long playerId, int radius) {
+        int slot = slotOf(playerId);
+        if (slot < 0) {
+            return new ArrayList<>();
+        }
+        synchronized (ranks) {
+            reindex();
+            int rank = ranks.rankOf(slot);
+            if (rank == 0) {
+                return new ArrayList<>();
+            }
+            int fromRank = Math.max(1, rank - radius);
+            return leaderboard(fromRank, rank + radius - fromRank + 1);
+        }
+    }
+
+    /**
+     * 1-based rank of the first entry ordered after a player holding a score, which is where a
+     * page continues after that entry even if the scores moved in between. -1 for unknown players.
+     */
+    public int rankAfter(Long playerId, int score) {
+        Integer slot = slotByPlayer.get(playerId);
+        if (slot == null) {
+            return -1;
+        }
+        synchronized (ranks) {
+            reindex();
+            return ranks.countAtOrAbove(slot, score) + 1;
+        }
+    }
+
+    private LeaderboardEntry entry(int slot, int rank) {
+        long cell = cells.get(slot);
+        LeaderboardEntry entry = new LeaderboardEntry();
+        entry.setRank(rank);
+        entry.setPlayerId(playerIds[slot]);
+        entry.setNickname(nicknames[slot]);
+        entry.setTotalScore(score(cell));
+        entry.setCurrentStreak(streak(cell));
+        return entry;
+    }
+
+    /**
+     * Copy of every present player's score and streak, for checkpointing. Each copy comes from one
+     * cell, so it also names the last question its score includes.
+     */
+    public List<PlayerScore> snapshot() {
+        List<PlayerScore> scores = new ArrayList<>(playerIds.length);
+        for (int slot = 0; slot < playerIds.length; slot++) {
+            if (present.get(slot) == 1) {
+                long cell = cells.get(slot);
+                scores.add(new PlayerScore(playerIds[slot], score(cell), streak(cell), answeredIndex(cell)));
+            }
+        }
+        return scores;
+    }
+
+    private static long pack(int score, int streak, int answeredIndex) {
+        return ((long) score << 32)
+                | ((Math.min(streak, (int) MASK_16) & MASK_16) << 16)
+                | ((answeredIndex + 1) & MASK_16);
+    }
+
+    private static int score(long cell) {
+        return (int) (cell >>> 32);
+    }
+
+    private static int streak(long cell) {
+        return (int) ((cell >>> 16) & MASK_16);
+    }
+
+    private static int answeredIndex(long cell) {
+        return (int) (cell & MASK_16) - 1;
+    }
+
+    /**
+     * Result of scoring one answer.
+     */
+    public static final class Outcome {
+        private final int pointsEarned;
+        private final int newStreak;
+        private final int previousStreak;
+        private final int totalScore;
+
+        private Outcome(int pointsEarned, int newStreak, int previousStreak, int totalScore) {
+            this.pointsEarned = pointsEarned;
+            this.newStreak = newStreak;
+            this.previousStreak = previousStreak;
+            this.totalScore = totalScore;
+        }
+
+        public int getPointsEarned() {
+            return pointsEarned;
+        }
+
+        public int getNewStreak() {
+            return newStreak;
+        }
+
+        public int getPreviousStreak() {
+            return previousStreak;
+        }
+
+        public int getTotalScore() {
+            return totalScore;
+        }
+    }
+
+    /**
+     * A player's score and streak at checkpoint time, with the last question they include.
+     */
+    public static final class PlayerScore {
+        private final Long playerId;
+        private final int totalScore;
+        private final int currentStreak;
+        private final int scoredQuestionIndex;
+
+        public PlayerScore(Long playerId, int totalScore, int currentStreak, int scoredQuestionIndex) {
+            this.playerId = playerId;
+            this.totalScore = totalScore;
+            this.currentStreak = currentStreak;
+            this.scoredQuestionIndex = scoredQuestionIndex;
+        }
+
+        public Long getPlayerId() {
+            return playerId;
+        }
+
+        public int getTotalScore() {
+            return totalScore;
+        }
+
+        public int getCurrentStreak() {
+            return currentStreak;
+        }
+
+        public int getScoredQuestionIndex() {
+            return scoredQuestionIndex;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.model.GlobalLeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Bounded top-K of player game totals: highest score first, earlier achievers win ties. A
+ * player's game total only grows, so offering the latest score keeps each player's best and
+ * replaying older snapshots in any order converges to the same board.
+ */
+final class TopKLeaderboard {
+
+    private static final Comparator<GlobalLeaderboardEntry> ORDER = Comparator
+            .comparing(GlobalLeaderboardEntry::getTotalScore, Comparator.reverseOrder())
+            .thenComparing(GlobalLeaderboardEntry::getAchievedAt)
+            .thenComparing(GlobalLeaderboardEntry::getPlayerId);
+
+    private final int capacity;
+    private final TreeSet<GlobalLeaderboardEntry> ranked = new TreeSet<>(ORDER);
+    private final Map<Long, GlobalLeaderboardEntry> byPlayer = new HashMap<>();
+
+    TopKLeaderboard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Offer a player's game total. Entries are never modified once stored.
+     *
+     * @return true if the board changed
+     */
+    synchronized boolean offer(GlobalLeaderboardEntry candidate) {
+        GlobalLeaderboardEntry current = byPlayer.get(candidate.getPlayerId());
+        if (current != null) {
+            if (current.getTotalScore() >= candidate.getTotalScore()) {
+                return false;
+            }
+            ranked.remove(current);
+        } else if (ranked.size() >= capacity && ORDER.compare(candidate, ranked.last()) >= 0) {
+            return false;
+        }
+        ranked.add(candidate);
+        byPlayer.put(candidate.getPlayerId(), candidate);
+        if (ranked.size() > capacity) {
+            byPlayer.remove(ranked.pollLast().getPlayerId());
+        }
+        return true;
+    }
+
+    /**
+     * Copies of the first {@code limit} entries with their ranks filled in.
+     */
+    synchronized List<GlobalLeaderboardEntry> top(int limit) {
+        List<GlobalLeaderboardEntry> entries = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (GlobalLeaderboardEntry stored : ranked) {
+            if (entries.size() == limit) {
+                break;
+            }
+            GlobalLeaderboardEntry entry = new GlobalLeaderboardEntry();
+            entry.setRank(entries.size() + 1);
+            entry.setPlayerId(stored.getPlayerId());
+            entry.setNickname(stored.getNickname());
+            entry.setRoomCode(stored.getRoomCode());
+            entry.setTotalScore(stored.getTotalScore());
+            entry.setAchievedAt(stored.getAchievedAt());
+            entries.add(entry);
+        }
+        return entries;
+    }
+}
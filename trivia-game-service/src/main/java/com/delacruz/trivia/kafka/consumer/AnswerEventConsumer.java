@@ -37,6 +37,11 @@ public class AnswerEventConsumer {
         logger.info("Received answer submitted event: eventId={}, roomCode={}, playerId={}",
                 event.getEventId(), event.getRoomCode(), event.getPlayerId());
 
+        // Answers waiting for the batch scorer are announced once they have been scored
+        if (!event.isScored()) {
+            return;
+        }
+
         try {
             // Build notification payload for the room
             // This lets the host (spectator mode) know that a player has answered
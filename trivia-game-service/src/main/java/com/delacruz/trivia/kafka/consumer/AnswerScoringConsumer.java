@@ -0,0 +1,63 @@
+package com.ectrvia.trivia.kafka.consumer;
+
+import com.ectrvia.trivia.kafka.KafkaTopicConfig;
+import com.ectrvia.trivia.kafka.event.AnswerSubmittedEvent;
+import com.ectrvia.trivia.model.AnswerSubmission;
+import com.ectrvia.trivia.service.ScoreService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch scorer for answers queued on answer-submitted when trivia.answers.ingestion is kafka.
+ * Each poll is grouped by room and scored with one call per room, so an answer burst costs
+ * one transaction per room and poll instead of one per answer.
+ */
+@Service
+public class AnswerScoringConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerScoringConsumer.class);
+
+    @Autowired
+    private ScoreService scoreService;
+
+    @KafkaListener(
+            topics = KafkaTopicConfig.TOPIC_ANSWER_SUBMITTED,
+            containerFactory = "answerBatchKafkaListenerContainerFactory",
+            autoStartup = "#{'${trivia.answers.ingestion:direct}'.equalsIgnoreCase('kafka')}"
+    )
+    public void consumeAnswerBatch(List<AnswerSubmittedEvent> events) {
+        // Records are keyed by room code, so a poll holds a few rooms in arrival order
+        Map<String, List<AnswerSubmission>> byRoom = new LinkedHashMap<>();
+        for (AnswerSubmittedEvent event : events) {
+            if (event.isScored()) {
+                continue;
+            }
+            AnswerSubmission submission = new AnswerSubmission();
+            submission.setPlayerId(event.getPlayerId());
+            submission.setQuestionId(event.getQuestionId());
+            submission.setSelectedAnswerIndex(event.getSelectedAnswerIndex());
+            submission.setAnswerTimeMs((int) event.getAnswerTimeMs());
+            submission.setAcceptedAt(event.getServerTimestamp());
+            byRoom.computeIfAbsent(event.getRoomCode(), k -> new ArrayList<>()).add(submission);
+        }
+
+        for (Map.Entry<String, List<AnswerSubmission>> entry : byRoom.entrySet()) {
+            try {
+                int accepted = scoreService.scoreAnswerBatch(entry.getKey(), entry.getValue());
+                logger.debug("Scored {} of {} queued answers for room {}",
+                        accepted, entry.getValue().size(), entry.getKey());
+            } catch (Exception e) {
+                logger.error("Failed to score answer batch: roomCode={}, size={}, error={}",
+                        entry.getKey(), entry.getValue().size(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -2,19 +2,28 @@ package com.ectrvia.trivia.kafka.consumer;
 
 import com.ectrvia.trivia.kafka.KafkaTopicConfig;
 import com.ectrvia.trivia.kafka.event.GameStateEvent;
+import com.ectrvia.trivia.model.AnswerSubmission;
+import com.ectrvia.trivia.scheduler.GameTimerScheduler;
+import com.ectrvia.trivia.scheduler.RoomOwnershipService;
+import com.ectrvia.trivia.service.RoomService;
+import com.ectrvia.trivia.service.ScoreService;
+import com.ectrvia.trivia.websocket.GameEventBroadcaster;
 import com.ectrvia.trivia.websocket.GameWebSocketHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Consumes game state events from Kafka and broadcasts them to WebSocket clients.
  * This bridges the Kafka event stream to real-time WebSocket updates.
+ * Game flow events are relayed as the record's raw JSON, the same bytes the direct path sends.
  * 
  * Note: This consumer is in game-service (not kafka-service) because it needs
  * access to GameWebSocketHandler for broadcasting to clients.
@@ -27,39 +36,78 @@ public class GameEventConsumer {
     @Autowired
     private GameWebSocketHandler webSocketHandler;
 
+    @Autowired
+    private GameEventBroadcaster gameEventBroadcaster;
+
+    @Autowired
+    private RoomOwnershipService roomOwnershipService;
+
+    @Autowired
+    private GameTimerScheduler gameTimerScheduler;
+
+    @Autowired
+    private ScoreService scoreService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @KafkaListener(
             topics = KafkaTopicConfig.TOPIC_GAME_EVENTS,
             containerFactory = "gameEventKafkaListenerContainerFactory"
     )
-    public void consumeGameEvent(GameStateEvent event) {
+    public void consumeGameEvent(byte[] json) {
+        GameStateEvent event;
+        try {
+            // Read only to route the event; what is relayed is the record itself
+            event = objectMapper.readValue(json, GameStateEvent.class);
+        } catch (IOException e) {
+            logger.error("Dropping unreadable game event: {}", e.getMessage(), e);
+            return;
+        }
         logger.info("Received game event: eventId={}, roomCode={}, eventType={}",
                 event.getEventId(), event.getRoomCode(), event.getEventType());
 
-        try {
-            // Build the WebSocket message payload
-            Map<String, Object> wsPayload = buildWebSocketPayload(event);
+        if (event.getEventType() == GameStateEvent.GameEventType.GAME_STARTING) {
+            startOwnedGame(event.getRoomCode());
+        }
+        if (event.getEventType() == GameStateEvent.GameEventType.ANSWER_FORWARDED) {
+            // Internal to the nodes; only the room's owner gets this partition and scores it
+            scoreForwardedAnswer(event);
+            return;
+        }
 
+        try {
             // Determine which destination to broadcast to based on event type
             switch (event.getEventType()) {
                 case PLAYER_JOINED:
                 case PLAYER_LEFT:
                 case HOST_CHANGED:
-                    // Player events go to the /players topic
-                    webSocketHandler.broadcastPlayerEvent(event.getRoomCode(), wsPayload);
+                    // Player events go to the /players topic, unless RoomService already sent them
+                    if (!gameEventBroadcaster.shouldRelayPlayerEvent()) {
+                        return;
+                    }
+                    webSocketHandler.broadcastPlayerEvent(event.getRoomCode(), buildPlayerEventPayload(event));
                     break;
 
                 case GAME_STARTING:
                 case QUESTION_START:
                 case QUESTION_END:
                 case GAME_FINISHED:
-                    // Game flow events go to the /game topic
-                    webSocketHandler.broadcastGameEvent(event.getRoomCode(), wsPayload);
+                case GAME_START_FAILED:
+                    // Game flow events go to the /game topic, unless already delivered directly
+                    if (!gameEventBroadcaster.shouldRelay(event)) {
+                        return;
+                    }
+                    webSocketHandler.broadcastEncodedGameEvent(event.getRoomCode(), json);
                     break;
 
                 default:
                     // Unknown event type, broadcast to game topic as fallback
                     logger.warn("Unknown event type: {}, broadcasting to game topic", event.getEventType());
-                    webSocketHandler.broadcastGameEvent(event.getRoomCode(), wsPayload);
+                    webSocketHandler.broadcastEncodedGameEvent(event.getRoomCode(), json);
             }
 
             logger.debug("Broadcasted {} event to room {}", event.getEventType(), event.getRoomCode());
@@ -70,6 +118,49 @@ public class GameEventConsumer {
         }
     }
 
+    /**
+     * Starts the game loop when this node owns the room but the game was started on another node.
+     */
+    private void startOwnedGame(String roomCode) {
+        if (!roomOwnershipService.isPartitionMode() || !roomOwnershipService.isOwner(roomCode)
+                || gameTimerScheduler.isRunning(roomCode)) {
+            return;
+        }
+        try {
+            gameTimerScheduler.startGame(roomCode);
+        } catch (Exception e) {
+            logger.error("Failed to start owned game for room {}: {}", roomCode, e.getMessage(), e);
+            roomService.abortGameStart(roomCode, e.getMessage());
+        }
+    }
+
+    private void scoreForwardedAnswer(GameStateEvent event) {
+        if (!roomOwnershipService.isOwner(event.getRoomCode()) || !(event.getPayload() instanceof Map<?, ?> details)) {
+            logger.warn("Dropping forwarded answer for room {} not owned here", event.getRoomCode());
+            return;
+        }
+        AnswerSubmission submission = new AnswerSubmission();
+        submission.setPlayerId(((Number) details.get("playerId")).longValue());
+        submission.setQuestionId(event.getQuestionId());
+        submission.setSelectedAnswerIndex(((Number) details.get("selectedAnswerIndex")).intValue());
+        submission.setAnswerTimeMs(((Number) details.get("answerTimeMs")).intValue());
+        long receivedAt = ((Number) details.get("receivedAt")).longValue();
+        submission.setAcceptedAt(receivedAt);
+        scoreService.scoreForwardedAnswer(event.getRoomCode(), submission, receivedAt);
+    }
+
+    /**
+     * Player events carry the player at the top level, as RoomService sends them directly, so
+     * unlike game flow events they are rebuilt rather than relayed as-is.
+     */
+    private Map<String, Object> buildPlayerEventPayload(GameStateEvent event) {
+        Map<String, Object> wsPayload = buildWebSocketPayload(event);
+        if (event.getPayload() instanceof Map<?, ?> details && details.get("player") != null) {
+            wsPayload.put("player", details.get("player"));
+        }
+        return wsPayload;
+    }
+
     /**
      * Builds the WebSocket payload from the Kafka event.
      */
@@ -0,0 +1,71 @@
+package com.ectrvia.trivia.kafka.consumer;
+
+import com.ectrvia.trivia.game.GlobalLeaderboard;
+import com.ectrvia.trivia.kafka.KafkaTopicConfig;
+import com.ectrvia.trivia.kafka.event.ScoreUpdatedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Feeds every score update into the cross-room leaderboards. Runs in its own consumer group
+ * per node, next to the WebSocket {@link ScoreEventConsumer}. Starts only after the boards
+ * were restored from their snapshots, at the offsets those snapshots cover.
+ */
+@Service
+public class GlobalLeaderboardConsumer extends AbstractConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalLeaderboardConsumer.class);
+
+    public static final String LISTENER_ID = "global-leaderboard";
+
+    @Autowired
+    private GlobalLeaderboard globalLeaderboard;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startAfterRestore() {
+        globalLeaderboard.whenRestored(() -> kafkaListenerEndpointRegistry.getListenerContainer(LISTENER_ID).start());
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        super.onPartitionsAssigned(assignments, callback);
+        for (TopicPartition partition : assignments.keySet()) {
+            Long offset = globalLeaderboard.resumeOffset(partition.partition());
+            if (offset != null) {
+                callback.seek(partition.topic(), partition.partition(), offset);
+            } else {
+                callback.seekToBeginning(partition.topic(), partition.partition());
+            }
+        }
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = KafkaTopicConfig.TOPIC_SCORE_UPDATED,
+            containerFactory = "globalLeaderboardKafkaListenerContainerFactory",
+            autoStartup = "false"
+    )
+    public void consumeScoreUpdated(ConsumerRecord<String, ScoreUpdatedEvent> record) {
+        ScoreUpdatedEvent event = record.value();
+        try {
+            globalLeaderboard.record(event, record.partition(), record.offset());
+        } catch (Exception e) {
+            logger.error("Failed to aggregate score update: eventId={}, roomCode={}",
+                    event.getEventId(), event.getRoomCode(), e);
+        }
+    }
+}
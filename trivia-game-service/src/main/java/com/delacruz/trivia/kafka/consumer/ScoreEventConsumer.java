@@ -3,6 +3,7 @@ package com.ectrvia.trivia.kafka.consumer;
 import com.ectrvia.trivia.kafka.KafkaTopicConfig;
 import com.ectrvia.trivia.kafka.event.ScoreUpdatedEvent;
 import com.ectrvia.trivia.websocket.GameWebSocketHandler;
+import com.ectrvia.trivia.websocket.LeaderboardUpdateCoalescer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,7 +15,8 @@ import java.util.Map;
 
 /**
  * Consumes score update events from Kafka and broadcasts them to WebSocket clients.
- * Sends personal score updates to individual players and leaderboard updates to the room.
+ * Sends personal score updates to individual players immediately; leaderboard updates for the
+ * room are merged by {@link LeaderboardUpdateCoalescer} and broadcast at a bounded rate.
  * 
  * Note: This consumer is in game-service (not kafka-service) because it needs
  * access to GameWebSocketHandler for broadcasting to clients.
@@ -27,6 +29,9 @@ public class ScoreEventConsumer {
     @Autowired
     private GameWebSocketHandler webSocketHandler;
 
+    @Autowired
+    private LeaderboardUpdateCoalescer leaderboardUpdateCoalescer;
+
     @KafkaListener(
             topics = KafkaTopicConfig.TOPIC_SCORE_UPDATED,
             containerFactory = "scoreKafkaListenerContainerFactory"
@@ -52,10 +57,8 @@ public class ScoreEventConsumer {
             // Build leaderboard update for the room
             Map<String, Object> leaderboardUpdatePayload = buildLeaderboardUpdatePayload(event);
             
-            // Broadcast leaderboard update to the room
-            webSocketHandler.broadcastLeaderboard(event.getRoomCode(), leaderboardUpdatePayload);
-            
-            logger.debug("Broadcasted leaderboard update to room {}", event.getRoomCode());
+            // Queue the leaderboard update; the room gets it with the next coalesced frame
+            leaderboardUpdateCoalescer.submit(event.getRoomCode(), event.getPlayerId(), leaderboardUpdatePayload);
 
         } catch (Exception e) {
             logger.error("Failed to broadcast score update to WebSocket: eventId={}, roomCode={}, error={}",
@@ -85,13 +88,11 @@ public class ScoreEventConsumer {
     }
 
     /**
-     * Builds the leaderboard update payload to broadcast to the room.
+     * Builds one player's entry of the coalesced leaderboard update for the room.
      * This is a lightweight update showing just the score change.
      */
     private Map<String, Object> buildLeaderboardUpdatePayload(ScoreUpdatedEvent event) {
         Map<String, Object> payload = new HashMap<>();
-        payload.put("eventType", "LEADERBOARD_UPDATE");
-        payload.put("roomCode", event.getRoomCode());
         payload.put("playerId", event.getPlayerId());
         payload.put("playerNickname", event.getPlayerNickname());
         payload.put("newTotalScore", event.getNewTotalScore());
@@ -0,0 +1,191 @@
+package com.ectrvia.trivia.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker tier for the game loop. Timer expiry only enqueues work here, so slow
+ * database, Kafka or WebSocket calls in one room never delay another room's deadline.
+ *
+ * Work is serialized per room: each room has a lane (mailbox) and at most one worker drains
+ * it at a time, so timer ticks, answers and membership changes for a room are applied in
+ * submission order without locks. Different rooms still run in parallel.
+ *
+ * When the queue is full the lane is re-armed on the room timer instead of blocking the
+ * caller, which is usually the timer thread itself.
+ */
+@Component
+public class GameLoopExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameLoopExecutor.class);
+
+    // Back-off before retrying a task that did not fit in the queue
+    private static final long REJECTED_RETRY_MS = 50;
+
+    // Tasks a lane runs before yielding its worker to other rooms
+    private static final int MAX_TASKS_PER_DRAIN = 32;
+
+    @Value("${trivia.game-loop.worker-threads:16}")
+    private int workerThreads;
+
+    @Value("${trivia.game-loop.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Autowired
+    private RoomTimer roomTimer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, RoomLane> lanes = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor workers;
+    private Counter rejectedCounter;
+    private Timer queueWaitTimer;
+
+    @PostConstruct
+    public void start() {
+        workers = new ThreadPoolExecutor(
+                workerThreads, workerThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory());
+
+        Gauge.builder("trivia.game.loop.queue.size", workers, w -> w.getQueue().size())
+                .description("Game loop tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("trivia.game.loop.active", workers, ThreadPoolExecutor::getActiveCount)
+                .description("Game loop workers currently running a task")
+                .register(meterRegistry);
+        Gauge.builder("trivia.game.loop.timers.pending", roomTimer, RoomTimer::pendingTimeouts)
+                .description("Question deadlines and delays waiting on the room timer")
+                .register(meterRegistry);
+        Gauge.builder("trivia.game.loop.lanes", lanes, Map::size)
+                .description("Rooms with game loop work queued or running")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("trivia.game.loop.rejected")
+                .description("Game loop tasks re-armed because the worker queue was full")
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("trivia.game.loop.queue.wait")
+                .description("Time between a deadline signal and a worker picking it up")
+                .register(meterRegistry);
+
+        logger.info("Game loop executor started: {} workers, queue capacity {}", workerThreads, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdown();
+    }
+
+    /**
+     * Queue game loop work for a room. Tasks for the same room run one at a time, in order.
+     * Never blocks.
+     */
+    public void execute(String roomCode, Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        Runnable timed = () -> {
+            queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            task.run();
+        };
+        lanes.compute(roomCode, (key, lane) -> {
+            if (lane == null) {
+                lane = new RoomLane(key);
+                lane.tasks.add(timed);
+                submit(lane);
+            } else {
+                // Lane is already scheduled or running; its worker picks this task up
+                lane.tasks.add(timed);
+            }
+            return lane;
+        });
+    }
+
+    private void submit(RoomLane lane) {
+        try {
+            workers.execute(() -> drain(lane));
+        } catch (RejectedExecutionException e) {
+            if (workers.isShutdown()) {
+                logger.warn("Game loop executor stopped, dropping tasks for room {}", lane.roomCode);
+                lanes.remove(lane.roomCode, lane);
+                return;
+            }
+            rejectedCounter.increment();
+            logger.warn("Game loop queue full, retrying room {} in {}ms", lane.roomCode, REJECTED_RETRY_MS);
+            roomTimer.schedule(() -> submit(lane), REJECTED_RETRY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drain(RoomLane lane) {
+        for (int i = 0; i < MAX_TASKS_PER_DRAIN; i++) {
+            Runnable task = lane.tasks.poll();
+            if (task == null) {
+                break;
+            }
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.error("Game loop task failed for room {}: {}", lane.roomCode, e.getMessage(), e);
+            }
+        }
+
+        // Retire the lane when empty, otherwise go to the back of the worker queue
+        lanes.compute(lane.roomCode, (key, current) -> {
+            if (lane.tasks.isEmpty()) {
+                return null;
+            }
+            submit(lane);
+            return lane;
+        });
+    }
+
+    public int getQueueSize() {
+        return workers.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return workers.getActiveCount();
+    }
+
+    public int getLaneCount() {
+        return lanes.size();
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "game-loop-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class RoomLane {
+        private final String roomCode;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        private RoomLane(String roomCode) {
+            this.roomCode = roomCode;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ectrvia.trivia.scheduler;
+
+import com.ectrvia.trivia.entity.RoomData;
+import com.ectrvia.trivia.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Re-arms timers for games that were IN_PROGRESS when the service last stopped,
+ * using the question deadlines persisted on the room.
+ */
+@Service
+public class GameRecoveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameRecoveryService.class);
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private GameTimerScheduler gameTimerScheduler;
+
+    @Autowired
+    private RoomOwnershipService roomOwnershipService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInProgressGames() {
+        if (roomOwnershipService.isPartitionMode()) {
+            // Rooms are recovered as their partitions get assigned to this node
+            return;
+        }
+        recoverInProgressGames(roomCode -> true);
+    }
+
+    /**
+     * Resume the in-progress games whose room code matches the filter.
+     */
+    public void recoverInProgressGames(Predicate<String> roomFilter) {
+        List<RoomData> rooms = roomRepository.findByStatus(RoomData.RoomStatus.IN_PROGRESS).stream()
+                .filter(room -> roomFilter.test(room.getRoomCode()))
+                .toList();
+        if (rooms.isEmpty()) {
+            return;
+        }
+
+        logger.info("Recovering {} in-progress games", rooms.size());
+        for (RoomData room : rooms) {
+            try {
+                gameTimerScheduler.resumeGame(room);
+            } catch (Exception e) {
+                logger.error("Failed to recover room {}: {}", room.getRoomCode(), e.getMessage(), e);
+            }
+        }
+    }
+}
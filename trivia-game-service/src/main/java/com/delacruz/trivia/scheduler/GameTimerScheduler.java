@@ -1,28 +1,49 @@
 package com.ectrvia.trivia.scheduler;
 
-import com.ectrvia.trivia.entity.QuestionData;
+import com.ectrvia.trivia.entity.PlayerAnswerData;
 import com.ectrvia.trivia.entity.RoomData;
+import com.ectrvia.trivia.game.AnswerDistribution;
+import com.ectrvia.trivia.game.AnswerWriteBehind;
+import com.ectrvia.trivia.game.GamePlan;
+import com.ectrvia.trivia.game.GamePlanRegistry;
+import com.ectrvia.trivia.game.LeaderboardDeltas;
+import com.ectrvia.trivia.game.RoomRuntime;
+import com.ectrvia.trivia.game.RoomRuntimeRegistry;
+import com.ectrvia.trivia.game.RoomStateWriter;
+import com.ectrvia.trivia.game.ScoreTable;
+import com.ectrvia.trivia.kafka.event.EncodedGameEvent;
 import com.ectrvia.trivia.kafka.event.GameStateEvent;
-import com.ectrvia.trivia.kafka.producer.GameEventProducer;
+import com.ectrvia.trivia.model.LeaderboardEntry;
 import com.ectrvia.trivia.model.Question;
-import com.ectrvia.trivia.repository.QuestionRepository;
+import com.ectrvia.trivia.repository.PlayerAnswerRepository;
 import com.ectrvia.trivia.repository.RoomRepository;
 import com.ectrvia.trivia.service.GameService;
-import com.ectrvia.trivia.transform.TransformQuestionService;
+import com.ectrvia.trivia.websocket.GameEventBroadcaster;
 import com.ectrvia.trivia.websocket.GameWebSocketHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.*;
+import java.util.function.Predicate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages game timers for automatic question advancement.
  * When a game starts or advances to a new question, a timer is scheduled.
  * When the timer expires, the question ends and the next one starts (or game finishes).
+ * Timer expiry only signals the GameLoopExecutor; the actual work runs on its workers.
+ *
+ * All state transitions of a room (deadlines, answers, players leaving) run on the room's
+ * GameLoopExecutor lane, so they are applied one at a time and in order. Room progress is
+ * written behind the loop by RoomStateWriter.
  */
 @Service
 public class GameTimerScheduler {
@@ -32,125 +53,326 @@ public class GameTimerScheduler {
     // Time to wait between questions (showing results) in seconds
     private static final int INTER_QUESTION_DELAY_SECONDS = 5;
     
-    // Map of roomCode -> scheduled timer task
-    private final ConcurrentHashMap<String, ScheduledFuture<?>> activeTimers = new ConcurrentHashMap<>();
+    // Map of roomCode -> pending question deadline or inter-question delay
+    private final ConcurrentHashMap<String, RoomTimer.Timeout> activeTimers = new ConcurrentHashMap<>();
     
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(10);
+    @Autowired
+    private RoomTimer roomTimer;
+
+    @Autowired
+    private GameLoopExecutor gameLoopExecutor;
 
     @Autowired
     private RoomRepository roomRepository;
 
     @Autowired
-    private QuestionRepository questionRepository;
+    private PlayerAnswerRepository playerAnswerRepository;
+
+    @Autowired
+    private GamePlanRegistry gamePlanRegistry;
 
     @Autowired
-    private com.ectrvia.trivia.repository.AnswerRepository answerRepository;
+    private RoomRuntimeRegistry roomRuntimeRegistry;
+
+    @Autowired
+    private RoomStateWriter roomStateWriter;
+
+    @Autowired
+    private AnswerWriteBehind answerWriteBehind;
 
     @Autowired
     private GameService gameService;
 
     @Autowired
-    private GameEventProducer gameEventProducer;
+    private GameEventBroadcaster gameEventBroadcaster;
 
     @Autowired
     private GameWebSocketHandler webSocketHandler;
 
     @Autowired
-    private TransformQuestionService transformQuestionService;
+    private RoomOwnershipService roomOwnershipService;
+
+    @Value("${trivia.answers.ingestion:direct}")
+    private String ingestion;
+
+    // How long a question that reached its deadline waits for answers accepted before it
+    @Value("${trivia.answers.close-grace-ms:500}")
+    private long closeGraceMs;
 
     /**
      * Start the game and schedule the first question timer.
+     * Uses the game plan registered by RoomService.startGame, loading it only if missing.
      */
     public void startGame(String roomCode) {
         logger.info("Starting game timer for room: {}", roomCode);
         
-        RoomData room = roomRepository.findByRoomCode(roomCode)
-                .orElseThrow(() -> new IllegalArgumentException("Room not found: " + roomCode));
-        
-        List<QuestionData> questions;
-        if (room.getIsThemeBased() && room.getCategory() != null) {
-            logger.info("Fetching theme questions for category ID: {}", room.getCategory().getId());
-            questions = questionRepository.findByCategoryIdOrderByQuestionOrderAsc(room.getCategory().getId());
-        } else {
-            logger.info("Fetching custom questions for room ID: {}", room.getId());
-            questions = questionRepository.findByRoomIdOrderByQuestionOrderAsc(room.getId());
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        if (plan == null || roomRuntimeRegistry.get(roomCode) == null) {
+            RoomData room = roomRepository.findByRoomCode(roomCode)
+                    .orElseThrow(() -> new IllegalArgumentException("Room not found: " + roomCode));
+            if (plan == null) {
+                plan = gamePlanRegistry.load(room);
+            }
+            if (roomRuntimeRegistry.get(roomCode) == null) {
+                roomRuntimeRegistry.load(room);
+            }
         }
         
-        if (questions.isEmpty()) {
+        if (plan.isEmpty()) {
             logger.warn("No questions found for room: {}", roomCode);
+            gamePlanRegistry.evict(roomCode);
+            roomRuntimeRegistry.evict(roomCode);
             // Throw exception to notify controller/client
             throw new IllegalStateException("No questions found for this game. Please check theme or custom questions.");
         }
         
         // Start with the first question
-        startQuestion(roomCode, 0);
+        gameLoopExecutor.execute(roomCode, () -> startQuestion(roomCode, 0));
     }
 
     /**
      * Start a specific question and schedule its timer.
      */
     public void startQuestion(String roomCode, int questionIndex) {
-        RoomData room = roomRepository.findByRoomCode(roomCode)
-                .orElseThrow(() -> new IllegalArgumentException("Room not found: " + roomCode));
-        
-        List<QuestionData> questions;
-        if (room.getIsThemeBased() && room.getCategory() != null) {
-            questions = questionRepository.findByCategoryIdOrderByQuestionOrderAsc(room.getCategory().getId());
-        } else {
-            questions = questionRepository.findByRoomIdOrderByQuestionOrderAsc(room.getId());
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        if (plan == null) {
+            logger.warn("No game plan for room {}, skipping question start", roomCode);
+            return;
         }
         
-        if (questionIndex >= questions.size()) {
+        if (!plan.hasQuestion(questionIndex)) {
             logger.info("No more questions, ending game for room: {}", roomCode);
             endGame(roomCode);
             return;
         }
         
-        QuestionData currentQuestion = questions.get(questionIndex);
-        int totalQuestions = questions.size();
-        int timerSeconds = currentQuestion.getTimerSeconds() != null 
-                ? currentQuestion.getTimerSeconds() 
-                : room.getQuestionTimerSeconds();
+        GamePlan.PlannedQuestion currentQuestion = plan.getQuestion(questionIndex);
+        int timerSeconds = currentQuestion.getTimerSeconds();
+        
+        // Open the question for answer counting before anyone can see it
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        EncodedGameEvent questionStart = null;
+        if (runtime != null) {
+            runtime.openQuestion(questionIndex, currentQuestion.getAnswerCount(), System.currentTimeMillis());
+            questionStart = runtime.takePreparedQuestionStart(questionIndex);
+        }
+        if (questionStart == null) {
+            // Not prepared during a delay (first question, resume), encode it now
+            questionStart = encodeQuestionStart(roomCode, plan, questionIndex, System.currentTimeMillis());
+        }
+        
+        // Cancel any existing timer for this room
+        cancelTimer(roomCode);
+        
+        // Schedule question end before broadcasting, so an early close always finds this deadline
+        RoomTimer.Timeout timerTask = roomTimer.schedule(
+                () -> gameLoopExecutor.execute(roomCode, () -> onQuestionDeadline(roomCode, questionIndex)),
+                timerSeconds,
+                TimeUnit.SECONDS
+        );
+        
+        activeTimers.put(roomCode, timerTask);
         
-        // Transform question for clients (without correct answer)
-        Question questionForClients = transformQuestionService.transform(currentQuestion);
-        questionForClients.setCorrectAnswerIndex(null); // Hide correct answer from clients
+        // Persist the absolute deadline so a restarted node can resume this question
+        roomStateWriter.writeQuestionProgress(roomCode, questionIndex,
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timerSeconds));
         
-        // Publish QUESTION_START event via Kafka
-        gameEventProducer.publishGameEvent(
+        // Same bytes for Kafka and the WebSocket broadcast
+        gameEventBroadcaster.publish(questionStart);
+        
+        logger.info("Question {} started in room {} (timer: {}s)", questionIndex + 1, roomCode, timerSeconds);
+    }
+
+    private EncodedGameEvent encodeQuestionStart(String roomCode, GamePlan plan, int questionIndex, long startAt) {
+        GamePlan.PlannedQuestion question = plan.getQuestion(questionIndex);
+        return gameEventBroadcaster.encode(
                 roomCode,
                 GameStateEvent.GameEventType.QUESTION_START,
-                currentQuestion.getId(),
+                question.getQuestionId(),
                 questionIndex,
-                totalQuestions,
-                timerSeconds,
-                Map.of("question", questionForClients)
+                plan.getTotalQuestions(),
+                question.getTimerSeconds(),
+                Map.of("question", question.getClientQuestion()),
+                startAt
+        );
+    }
+
+    /**
+     * Build the next QUESTION_START while results are on screen, stamped with its scheduled start.
+     */
+    private void prepareQuestionStart(String roomCode, int questionIndex, long startAt) {
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (plan == null || runtime == null || !plan.hasQuestion(questionIndex)) {
+            return;
+        }
+        runtime.prepareQuestionStart(questionIndex, encodeQuestionStart(roomCode, plan, questionIndex, startAt));
+    }
+
+    /**
+     * Read the final standings and build GAME_FINISHED while the last results are on screen.
+     * Answers are closed by now, so the standings cannot change before the game ends.
+     */
+    private void prepareGameFinished(String roomCode, long finishAt) {
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (runtime == null) {
+            return;
+        }
+        var leaderboard = gameService.getLeaderboard(roomCode);
+        runtime.prepareGameFinished(leaderboard, encodeGameFinished(roomCode, leaderboard, finishAt));
+    }
+
+    private EncodedGameEvent encodeGameFinished(String roomCode, List<LeaderboardEntry> leaderboard, long finishAt) {
+        var podium = leaderboard.size() > 3 ? leaderboard.subList(0, 3) : leaderboard;
+        return gameEventBroadcaster.encode(
+                roomCode,
+                GameStateEvent.GameEventType.GAME_FINISHED,
+                null,
+                0,
+                0,
+                0,
+                Map.of(
+                        "podium", podium,
+                        "allPlayers", leaderboard
+                ),
+                finishAt
         );
+    }
+
+    /**
+     * Resume a game that was in progress when this node (or its previous owner) stopped.
+     * Re-arms the open question's persisted deadline, or fast-forwards it if already past.
+     */
+    public void resumeGame(RoomData room) {
+        gameLoopExecutor.execute(room.getRoomCode(), () -> resumeOnLane(room));
+    }
+
+    private void resumeOnLane(RoomData room) {
+        String roomCode = room.getRoomCode();
+        if (activeTimers.containsKey(roomCode)) {
+            logger.debug("Room {} already has an active timer, not resuming", roomCode);
+            return;
+        }
         
-        // Also broadcast directly via WebSocket for immediate delivery
-        webSocketHandler.broadcastGameEvent(roomCode, Map.of(
-                "eventType", "QUESTION_START",
-                "questionId", currentQuestion.getId(),
-                "questionIndex", questionIndex,
-                "totalQuestions", totalQuestions,
-                "timerSeconds", timerSeconds,
-                "questionStartTime", System.currentTimeMillis(),
-                "question", questionForClients
-        ));
+        GamePlan plan = gamePlanRegistry.load(room);
+        RoomRuntime runtime = roomRuntimeRegistry.load(room);
+        int questionIndex = room.getCurrentQuestionIndex() != null ? room.getCurrentQuestionIndex() : 0;
+        Long deadlineAt = room.getQuestionDeadlineAt();
         
-        logger.info("Question {} started in room {} (timer: {}s)", questionIndex + 1, roomCode, timerSeconds);
+        if (!plan.hasQuestion(questionIndex)) {
+            logger.info("Resuming room {}: no question {} left, finishing game", roomCode, questionIndex + 1);
+            endGame(roomCode);
+            return;
+        }
         
-        // Cancel any existing timer for this room
-        cancelTimer(roomCode);
+        if (deadlineAt == null) {
+            // Stopped between questions: the next question was never started
+            logger.info("Resuming room {}: starting question {}", roomCode, questionIndex + 1);
+            startQuestion(roomCode, questionIndex);
+            return;
+        }
         
-        // Schedule question end
-        ScheduledFuture<?> timerTask = scheduler.schedule(
-                () -> endQuestion(roomCode, questionIndex),
-                timerSeconds,
-                TimeUnit.SECONDS
-        );
+        // Answer times of the resumed question keep counting from its original start
+        GamePlan.PlannedQuestion question = plan.getQuestion(questionIndex);
+        runtime.openQuestion(questionIndex, question.getAnswerCount(),
+                deadlineAt - TimeUnit.SECONDS.toMillis(question.getTimerSeconds()));
+        AnswerDistribution distribution = runtime.distributionFor(questionIndex);
+        // Replay the question's persisted answers so they are not accepted twice. Points are only
+        // added for players whose checkpoint does not include this question yet: replay skips
+        // slots whose loaded scored_question_index already reaches it
+        ScoreTable scoreTable = runtime.getScoreTable();
+        for (PlayerAnswerData answer : playerAnswerRepository.findByQuestionId(question.getQuestionId())) {
+            Long playerId = answer.getPlayer().getId();
+            int slot = scoreTable.slotOf(playerId);
+            if (slot >= 0) {
+                scoreTable.replay(slot, questionIndex, answer.getPointsEarned(), answer.getStreakAtTime());
+                distribution.record(answer.getSelectedAnswerIndex());
+                runtime.recordAnswer(questionIndex, playerId);
+            }
+        }
+        long remainingMs = deadlineAt - System.currentTimeMillis();
+        if (remainingMs <= 0) {
+            logger.info("Resuming room {}: question {} deadline passed, ending it now", roomCode, questionIndex + 1);
+            onQuestionDeadline(roomCode, questionIndex);
+            return;
+        }
         
-        activeTimers.put(roomCode, timerTask);
+        logger.info("Resuming room {}: question {} ends in {}ms", roomCode, questionIndex + 1, remainingMs);
+        activeTimers.put(roomCode, roomTimer.schedule(
+                () -> gameLoopExecutor.execute(roomCode, () -> onQuestionDeadline(roomCode, questionIndex)),
+                remainingMs,
+                TimeUnit.MILLISECONDS
+        ));
+    }
+
+    /**
+     * Record an answer for the open question and close it early once every participant has answered.
+     */
+    public void recordAnswer(String roomCode, Long playerId, Long questionId) {
+        gameLoopExecutor.execute(roomCode, () -> recordAnswerOnLane(roomCode, playerId, questionId));
+    }
+
+    private void recordAnswerOnLane(String roomCode, Long playerId, Long questionId) {
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        if (runtime == null || plan == null) {
+            return;
+        }
+        if (runtime.recordAnswer(plan.indexOf(questionId), playerId)) {
+            closeQuestionEarly(roomCode, runtime);
+        }
+    }
+
+    /**
+     * Stop expecting answers from a player who left mid-game.
+     */
+    public void removeParticipant(String roomCode, Long playerId) {
+        gameLoopExecutor.execute(roomCode, () -> removeParticipantOnLane(roomCode, playerId));
+    }
+
+    private void removeParticipantOnLane(String roomCode, Long playerId) {
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (runtime != null && runtime.removeParticipant(playerId)) {
+            closeQuestionEarly(roomCode, runtime);
+        }
+    }
+
+    private void closeQuestionEarly(String roomCode, RoomRuntime runtime) {
+        int questionIndex = runtime.getOpenQuestionIndex();
+        if (!runtime.tryCloseQuestion(questionIndex)) {
+            return;
+        }
+        logger.info("All players answered question {} in room {}, closing early", questionIndex + 1, roomCode);
+        
+        // The question is still open, so the active timer is its deadline
+        cancelTimer(roomCode);
+        endQuestion(roomCode, questionIndex);
+    }
+
+    private void onQuestionDeadline(String roomCode, int questionIndex) {
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (runtime != null && !runtime.tryCloseQuestion(questionIndex)) {
+            logger.debug("Question {} in room {} already closed", questionIndex + 1, roomCode);
+            return;
+        }
+        if (runtime != null && answersMayArriveLate() && closeGraceMs > 0) {
+            // Closed to new answers; ones still queued or being forwarded are scored until it ends
+            activeTimers.put(roomCode, roomTimer.schedule(
+                    () -> gameLoopExecutor.execute(roomCode, () -> endQuestion(roomCode, questionIndex)),
+                    closeGraceMs,
+                    TimeUnit.MILLISECONDS
+            ));
+            return;
+        }
+        endQuestion(roomCode, questionIndex);
+    }
+
+    /**
+     * Whether accepted answers can reach the score table after the deadline: queued on
+     * answer-submitted, or forwarded from a node that doesn't own the room.
+     */
+    private boolean answersMayArriveLate() {
+        return "kafka".equalsIgnoreCase(ingestion.trim()) || roomOwnershipService.isPartitionMode();
     }
 
     /**
@@ -159,38 +381,42 @@ public class GameTimerScheduler {
     private void endQuestion(String roomCode, int questionIndex) {
         logger.info("Question {} ended in room {}", questionIndex + 1, roomCode);
         
-        RoomData room = roomRepository.findByRoomCode(roomCode).orElse(null);
-        if (room == null || room.getStatus() != RoomData.RoomStatus.IN_PROGRESS) {
+        // The plan is evicted when the game ends, so a missing plan means the room is no longer in progress
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        if (plan == null) {
             logger.warn("Room {} not found or not in progress, skipping question end", roomCode);
             return;
         }
         
-        List<QuestionData> questions;
-        if (room.getIsThemeBased() && room.getCategory() != null) {
-            questions = questionRepository.findByCategoryIdOrderByQuestionOrderAsc(room.getCategory().getId());
-        } else {
-            questions = questionRepository.findByRoomIdOrderByQuestionOrderAsc(room.getId());
-        }
-        
-        if (questionIndex >= questions.size()) {
+        if (!plan.hasQuestion(questionIndex)) {
             endGame(roomCode);
             return;
         }
         
-        QuestionData currentQuestion = questions.get(questionIndex);
-        int totalQuestions = questions.size();
+        GamePlan.PlannedQuestion currentQuestion = plan.getQuestion(questionIndex);
+        int totalQuestions = plan.getTotalQuestions();
         
-        // Get leaderboard for results
+        // Seal the question before reading results, so an answer still being scored either makes
+        // it into this leaderboard or is rejected
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (runtime != null) {
+            runtime.getScoreTable().close(questionIndex);
+        }
+        
+        // Get leaderboard for results, then let the database catch up during the delay
         var leaderboard = gameService.getLeaderboard(roomCode);
+        if (runtime != null) {
+            answerWriteBehind.checkpoint(runtime);
+        }
         
-        String correctAnswerText = getCorrectAnswerText(currentQuestion);
+        String correctAnswerText = currentQuestion.getCorrectAnswerText();
+        AnswerDistribution distribution = runtime != null ? runtime.distributionFor(questionIndex) : null;
         // Publish QUESTION_END event
-        Question questionForClients = transformQuestionService.transform(currentQuestion);
-        questionForClients.setCorrectAnswerIndex(null);
-        gameEventProducer.publishGameEvent(
+        Question questionForClients = currentQuestion.getClientQuestion();
+        gameEventBroadcaster.publish(
                 roomCode,
                 GameStateEvent.GameEventType.QUESTION_END,
-                currentQuestion.getId(),
+                currentQuestion.getQuestionId(),
                 questionIndex,
                 totalQuestions,
                 0,
@@ -198,49 +424,57 @@ public class GameTimerScheduler {
                         "correctAnswerIndex", currentQuestion.getCorrectAnswerIndex(),
                         "correctAnswerText", correctAnswerText,
                         "question", questionForClients,
-                        "leaderboard", leaderboard.size() > 5 ? leaderboard.subList(0, 5) : leaderboard
+                        "leaderboard", leaderboard.size() > 5 ? leaderboard.subList(0, 5) : leaderboard,
+                        "answerDistribution", distribution != null ? distribution.snapshot() : List.of()
                 )
         );
         
-        // Broadcast directly via WebSocket
-        webSocketHandler.broadcastGameEvent(roomCode, Map.of(
-                "eventType", "QUESTION_END",
-                "questionId", currentQuestion.getId(),
-                "questionIndex", questionIndex,
-                "totalQuestions", totalQuestions,
-                "correctAnswerIndex", currentQuestion.getCorrectAnswerIndex(),
-                "correctAnswerText", correctAnswerText,
-                "question", questionForClients,
-                "leaderboard", leaderboard.size() > 5 ? leaderboard.subList(0, 5) : leaderboard
-        ));
-        
-        // Broadcast full leaderboard update
-        webSocketHandler.broadcastLeaderboard(roomCode, Map.of(
-                "roomCode", roomCode,
-                "questionIndex", questionIndex,
-                "totalQuestions", totalQuestions,
-                "leaderboard", leaderboard
-        ));
+        // Broadcast only what changed since the last question; the first one is a full snapshot
+        Map<String, Object> leaderboardUpdate;
+        if (runtime != null) {
+            leaderboardUpdate = new HashMap<>(runtime.getLeaderboardDeltas().publish(leaderboard));
+        } else {
+            // Unversioned full list; clients replace their standings as with any snapshot
+            leaderboardUpdate = new HashMap<>(Map.of("eventType", LeaderboardDeltas.SNAPSHOT,
+                    "roomCode", roomCode,
+                    "version", 0,
+                    "playerCount", leaderboard.size(),
+                    "leaderboard", leaderboard));
+        }
+        leaderboardUpdate.put("questionIndex", questionIndex);
+        leaderboardUpdate.put("totalQuestions", totalQuestions);
+        webSocketHandler.broadcastLeaderboard(roomCode, leaderboardUpdate);
         
         // Check if there are more questions
         int nextQuestionIndex = questionIndex + 1;
+        long nextTransitionAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(INTER_QUESTION_DELAY_SECONDS);
         if (nextQuestionIndex >= totalQuestions) {
+            // Past the last question with no deadline: a resume during the delay finishes the game
+            // instead of ending this question again
+            roomStateWriter.writeQuestionProgress(roomCode, nextQuestionIndex, null);
+            
             // Schedule game end after showing results
-            scheduler.schedule(
-                    () -> endGame(roomCode),
+            activeTimers.put(roomCode, roomTimer.schedule(
+                    () -> gameLoopExecutor.execute(roomCode, () -> endGame(roomCode)),
                     INTER_QUESTION_DELAY_SECONDS,
                     TimeUnit.SECONDS
-            );
+            ));
+            
+            // Queued behind this task on the room's lane, so it runs during the delay
+            gameLoopExecutor.execute(roomCode, () -> prepareGameFinished(roomCode, nextTransitionAt));
         } else {
-            // Advance to next question in database
-            gameService.advanceToNextQuestion(roomCode);
+            // Advance to next question; no deadline until it starts
+            roomStateWriter.writeQuestionProgress(roomCode, nextQuestionIndex, null);
             
             // Schedule next question after showing results
-            scheduler.schedule(
-                    () -> startQuestion(roomCode, nextQuestionIndex),
+            activeTimers.put(roomCode, roomTimer.schedule(
+                    () -> gameLoopExecutor.execute(roomCode, () -> startQuestion(roomCode, nextQuestionIndex)),
                     INTER_QUESTION_DELAY_SECONDS,
                     TimeUnit.SECONDS
-            );
+            ));
+            
+            gameLoopExecutor.execute(roomCode,
+                    () -> prepareQuestionStart(roomCode, nextQuestionIndex, nextTransitionAt));
         }
     }
 
@@ -253,34 +487,29 @@ public class GameTimerScheduler {
         // Cancel any active timer
         cancelTimer(roomCode);
         
+        // Final scores must be in the database before the room's in-memory state is dropped
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (runtime != null) {
+            answerWriteBehind.checkpointAndWait(runtime);
+        }
+        
         // End game in database
         gameService.endGame(roomCode);
         
-        // Get final leaderboard
-        var leaderboard = gameService.getLeaderboard(roomCode);
+        // Use the standings prepared during the last delay, reading them now only if missing
+        List<LeaderboardEntry> leaderboard = runtime != null ? runtime.getFinalLeaderboard() : null;
+        EncodedGameEvent gameFinished = runtime != null ? runtime.getPreparedGameFinished() : null;
+        if (leaderboard == null || gameFinished == null) {
+            leaderboard = gameService.getLeaderboard(roomCode);
+            gameFinished = encodeGameFinished(roomCode, leaderboard, System.currentTimeMillis());
+        }
         var podium = leaderboard.size() > 3 ? leaderboard.subList(0, 3) : leaderboard;
         
         // Publish GAME_FINISHED event
-        gameEventProducer.publishGameEvent(
-                roomCode,
-                GameStateEvent.GameEventType.GAME_FINISHED,
-                null,
-                0,
-                0,
-                0,
-                Map.of(
-                        "podium", podium,
-                        "allPlayers", leaderboard
-                )
-        );
+        gameEventBroadcaster.publish(gameFinished);
         
-        // Broadcast directly via WebSocket
-        webSocketHandler.broadcastGameEvent(roomCode, Map.of(
-                "eventType", "GAME_FINISHED",
-                "roomCode", roomCode,
-                "podium", podium,
-                "allPlayers", leaderboard
-        ));
+        gamePlanRegistry.evict(roomCode);
+        roomRuntimeRegistry.evict(roomCode);
         
         logger.info("Game finished for room: {}, winner: {}", roomCode, 
                 podium.isEmpty() ? "none" : podium.get(0).getNickname());
@@ -290,9 +519,8 @@ public class GameTimerScheduler {
      * Cancel an active timer for a room.
      */
     public void cancelTimer(String roomCode) {
-        ScheduledFuture<?> timer = activeTimers.remove(roomCode);
-        if (timer != null && !timer.isDone()) {
-            timer.cancel(false);
+        RoomTimer.Timeout timer = activeTimers.remove(roomCode);
+        if (timer != null && timer.cancel()) {
             logger.debug("Cancelled timer for room: {}", roomCode);
         }
     }
@@ -302,29 +530,65 @@ public class GameTimerScheduler {
      */
     public void cancelGame(String roomCode) {
         cancelTimer(roomCode);
-        logger.info("Game cancelled for room: {}", roomCode);
+        gameLoopExecutor.execute(roomCode, () -> {
+            cancelTimer(roomCode);
+            gamePlanRegistry.evict(roomCode);
+            roomRuntimeRegistry.evict(roomCode);
+            logger.info("Game cancelled for room: {}", roomCode);
+        });
+    }
+
+    /**
+     * Stop running the given rooms on this node without touching their persisted state,
+     * e.g. when ownership moves to another node. The new owner resumes them via resumeGame.
+     *
+     * @return completes once every room's queued loop work has run and its scores and progress
+     *         are in the database, so the new owner reads what this node last did
+     */
+    public CompletableFuture<Void> releaseRooms(Predicate<String> roomFilter) {
+        List<CompletableFuture<Void>> released = new ArrayList<>();
+        for (String roomCode : gamePlanRegistry.roomCodes()) {
+            if (roomFilter.test(roomCode)) {
+                // Stop the deadline right away, then drop state behind any work already queued
+                cancelTimer(roomCode);
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                gameLoopExecutor.execute(roomCode, () -> {
+                    try {
+                        cancelTimer(roomCode);
+                        // The new owner loads scores from the database
+                        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+                        if (runtime != null) {
+                            answerWriteBehind.checkpointAndWait(runtime);
+                        }
+                        gamePlanRegistry.evict(roomCode);
+                        roomRuntimeRegistry.evict(roomCode);
+                        roomStateWriter.awaitWrites();
+                        logger.info("Released room {} to another node", roomCode);
+                    } finally {
+                        done.complete(null);
+                    }
+                });
+                released.add(done);
+            }
+        }
+        return CompletableFuture.allOf(released.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Whether this node is currently running the game loop for a room.
+     */
+    public boolean isRunning(String roomCode) {
+        return gamePlanRegistry.get(roomCode) != null;
     }
 
     /**
      * Check if a room has an active timer.
      */
     public boolean hasActiveTimer(String roomCode) {
-        ScheduledFuture<?> timer = activeTimers.get(roomCode);
+        RoomTimer.Timeout timer = activeTimers.get(roomCode);
         return timer != null && !timer.isDone();
     }
 
-    private String getCorrectAnswerText(QuestionData question) {
-        Integer correctIndex = question.getCorrectAnswerIndex();
-        if (correctIndex == null) {
-            return "";
-        }
-        return answerRepository.findByQuestionIdOrderByAnswerIndexAsc(question.getId()).stream()
-                .filter(answer -> correctIndex.equals(answer.getAnswerIndex()))
-                .findFirst()
-                .map(answer -> answer.getAnswerText())
-                .orElse("");
-    }
-
     /**
      * Get the number of active game timers.
      */
@@ -0,0 +1,268 @@
+package com.ectrvia.trivia.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Hashed-wheel {@link RoomTimer}. A single ticker thread advances a fixed ring of buckets;
+ * scheduling and cancelling only enqueue the timeout, so both are O(1) regardless of how
+ * many rooms are running. Deadlines are accurate to one tick.
+ *
+ * Expired tasks run on the ticker thread, so they must be short and non-blocking; the game loop
+ * only uses them to hand a "deadline reached" signal to {@link GameLoopExecutor}.
+ */
+public class HashedWheelRoomTimer implements RoomTimer, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelRoomTimer.class);
+
+    // Upper bound on new timeouts moved into the wheel per tick, so a burst cannot starve expiry
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private final Queue<WheelTimeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Thread ticker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick;
+
+    public HashedWheelRoomTimer(long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = createWheel(wheelSize);
+        this.mask = wheel.length - 1;
+        this.startNanos = System.nanoTime();
+        this.ticker = new Thread(this::run, "room-timer-wheel");
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Room timer has been stopped");
+        }
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0, delay)) - startNanos;
+        WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+        pendingCount.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public int pendingTimeouts() {
+        return pendingCount.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        ticker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                continue;
+            }
+            removeCancelled();
+            transferPendingAdds();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+        logger.info("Room timer stopped with {} pending timeouts", pendingCount.get());
+    }
+
+    /**
+     * Sleep until the start of the next tick. Returns false if the timer was stopped meanwhile.
+     */
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void transferPendingAdds() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            WheelTimeout timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state != WheelTimeout.ST_INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // Already-due timeouts go into the current bucket and fire on this tick
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        WheelTimeout timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void runTask(WheelTimeout timeout) {
+        pendingCount.decrementAndGet();
+        try {
+            timeout.task.run();
+        } catch (Exception e) {
+            logger.error("Room timer task failed", e);
+        }
+    }
+
+    private static Bucket[] createWheel(int wheelSize) {
+        int normalized = 1;
+        while (normalized < wheelSize) {
+            normalized <<= 1;
+        }
+        Bucket[] wheel = new Bucket[normalized];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        return wheel;
+    }
+
+    private static final class WheelTimeout implements Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HashedWheelRoomTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // Only touched by the ticker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTimeout next;
+        private WheelTimeout prev;
+
+        private WheelTimeout(HashedWheelRoomTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pendingCount.decrementAndGet();
+            timer.pendingCancels.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        private void expire() {
+            if (STATE.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                timer.runTask(this);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of timeouts hashed to the same slot. Only accessed by the ticker thread.
+     */
+    private static final class Bucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expire() {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ectrvia.trivia.scheduler;
+
+import com.ectrvia.trivia.kafka.KafkaTopicConfig;
+import jakarta.annotation.PostConstruct;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which node runs the game loop for a room.
+ *
+ * In {@code local} mode (single node) every room is owned locally. In {@code kafka-partition}
+ * mode a room belongs to the node that holds its game-events partition in the game consumer
+ * group; game-events is keyed by roomCode, so this is the same partition Kafka's default
+ * partitioner picks. Ownership follows consumer-group rebalances: revoked rooms stop their
+ * timers here, and the revocation waits until their state is persisted, before the new owner
+ * resumes them from the deadlines persisted on the room.
+ */
+@Service
+public class RoomOwnershipService implements ConsumerAwareRebalanceListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomOwnershipService.class);
+
+    public static final String MODE_LOCAL = "local";
+    public static final String MODE_KAFKA_PARTITION = "kafka-partition";
+
+    // Well below max.poll.interval.ms, so a slow release cannot get this consumer evicted
+    private static final long RELEASE_TIMEOUT_SECONDS = 60;
+
+    @Value("${trivia.ownership.mode:local}")
+    private String mode;
+
+    private final Set<Integer> ownedPartitions = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private ConcurrentKafkaListenerContainerFactory<String, byte[]> gameEventKafkaListenerContainerFactory;
+
+    @Autowired
+    @Lazy
+    private GameTimerScheduler gameTimerScheduler;
+
+    @Autowired
+    @Lazy
+    private GameRecoveryService gameRecoveryService;
+
+    @PostConstruct
+    public void registerRebalanceListener() {
+        if (isPartitionMode()) {
+            // Containers are created after all singletons, so they pick this listener up
+            gameEventKafkaListenerContainerFactory.getContainerProperties().setConsumerRebalanceListener(this);
+            logger.info("Room ownership follows {} partitions", KafkaTopicConfig.TOPIC_GAME_EVENTS);
+        }
+    }
+
+    public boolean isPartitionMode() {
+        return MODE_KAFKA_PARTITION.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Whether this node should run the timers of the given room.
+     */
+    public boolean isOwner(String roomCode) {
+        return !isPartitionMode() || ownedPartitions.contains(partitionFor(roomCode));
+    }
+
+    public static int partitionFor(String roomCode) {
+        byte[] key = roomCode.getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(key)) % KafkaTopicConfig.GAME_EVENTS_PARTITIONS;
+    }
+
+    public Set<Integer> getOwnedPartitions() {
+        return Set.copyOf(ownedPartitions);
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        Set<Integer> revoked = gameEventPartitions(partitions);
+        if (revoked.isEmpty()) {
+            return;
+        }
+        ownedPartitions.removeAll(revoked);
+        logger.info("Game event partitions revoked: {}", revoked);
+        // Hold the rebalance until the rooms are released, so the new owner never resumes from
+        // rows this node is still about to write
+        try {
+            gameTimerScheduler.releaseRooms(roomCode -> revoked.contains(partitionFor(roomCode)))
+                    .get(RELEASE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.error("Rooms of partitions {} not released in time: {}", revoked, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        Set<Integer> assigned = gameEventPartitions(partitions);
+        if (assigned.isEmpty()) {
+            return;
+        }
+        ownedPartitions.addAll(assigned);
+        logger.info("Game event partitions assigned: {}", assigned);
+        gameRecoveryService.recoverInProgressGames(roomCode -> assigned.contains(partitionFor(roomCode)));
+    }
+
+    private static Set<Integer> gameEventPartitions(Collection<TopicPartition> partitions) {
+        return partitions.stream()
+                .filter(tp -> KafkaTopicConfig.TOPIC_GAME_EVENTS.equals(tp.topic()))
+                .map(TopicPartition::partition)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,36 @@
+package com.ectrvia.trivia.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-shot timer used by the game loop for question deadlines and inter-question delays.
+ * Implementations must make both {@link #schedule} and {@link Timeout#cancel} O(1).
+ */
+public interface RoomTimer {
+
+    /**
+     * Run the task once after the given delay.
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Number of timeouts scheduled but not yet expired or cancelled.
+     */
+    int pendingTimeouts();
+
+    interface Timeout {
+
+        /**
+         * Cancel the timeout. Returns false if it already expired or was cancelled.
+         */
+        boolean cancel();
+
+        boolean isExpired();
+
+        boolean isCancelled();
+
+        default boolean isDone() {
+            return isExpired() || isCancelled();
+        }
+    }
+}
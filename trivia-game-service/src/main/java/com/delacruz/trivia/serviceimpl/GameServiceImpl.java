@@ -3,8 +3,14 @@ package com.ectrvia.trivia.serviceimpl;
 import com.ectrvia.trivia.entity.PlayerData;
 import com.ectrvia.trivia.entity.QuestionData;
 import com.ectrvia.trivia.entity.RoomData;
+import com.ectrvia.trivia.game.GamePlan;
+import com.ectrvia.trivia.game.GamePlanRegistry;
+import com.ectrvia.trivia.game.RoomRuntime;
+import com.ectrvia.trivia.game.RoomRuntimeRegistry;
+import com.ectrvia.trivia.game.ScoreTable;
 import com.ectrvia.trivia.model.GameState;
 import com.ectrvia.trivia.model.LeaderboardEntry;
+import com.ectrvia.trivia.model.LeaderboardPage;
 import com.ectrvia.trivia.model.Question;
 import com.ectrvia.trivia.repository.PlayerRepository;
 import com.ectrvia.trivia.repository.QuestionRepository;
@@ -29,6 +35,9 @@ public class GameServiceImpl implements GameService {
 
     private static final Logger logger = LoggerFactory.getLogger(GameServiceImpl.class);
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_AROUND_RADIUS = 50;
+
     @Autowired
     private RoomRepository roomRepository;
 
@@ -41,21 +50,41 @@ public class GameServiceImpl implements GameService {
     @Autowired
     private TransformQuestionService transformQuestionService;
 
+    @Autowired
+    private GamePlanRegistry gamePlanRegistry;
+
+    @Autowired
+    private RoomRuntimeRegistry roomRuntimeRegistry;
+
     @Override
     public GameState getGameState(String roomCode) {
         RoomData roomData = roomRepository.findByRoomCode(roomCode)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
-        List<QuestionData> questions = getQuestionsForRoom(roomData);
-
         GameState gameState = new GameState();
         gameState.setRoomCode(roomCode);
         gameState.setStatus(roomData.getStatus().name());
         gameState.setCurrentQuestionIndex(roomData.getCurrentQuestionIndex());
-        gameState.setTotalQuestions(questions.size());
         gameState.setTimerSeconds(roomData.getQuestionTimerSeconds());
         gameState.setLeaderboard(getLeaderboard(roomCode));
 
+        // Running games are served from the in-memory plan
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        if (plan != null) {
+            gameState.setTotalQuestions(plan.getTotalQuestions());
+            if (roomData.getStatus() == RoomData.RoomStatus.IN_PROGRESS
+                    && plan.hasQuestion(roomData.getCurrentQuestionIndex())) {
+                GamePlan.PlannedQuestion question = plan.getQuestion(roomData.getCurrentQuestionIndex());
+                gameState.setCurrentQuestion(question.getClientQuestion());
+                gameState.setTimerSeconds(question.getTimerSeconds());
+                gameState.setQuestionStartTime(questionStartTime(roomData, question.getTimerSeconds()));
+            }
+            return gameState;
+        }
+
+        List<QuestionData> questions = getQuestionsForRoom(roomData);
+        gameState.setTotalQuestions(questions.size());
+
         // Get current question if game is in progress
         if (roomData.getStatus() == RoomData.RoomStatus.IN_PROGRESS) {
             if (roomData.getCurrentQuestionIndex() < questions.size()) {
@@ -64,25 +93,45 @@ public class GameServiceImpl implements GameService {
                 // Remove correct answer index for players
                 currentQuestion.setCorrectAnswerIndex(null);
                 gameState.setCurrentQuestion(currentQuestion);
+                if (currentQuestion.getTimerSeconds() != null) {
+                    gameState.setQuestionStartTime(questionStartTime(roomData, currentQuestion.getTimerSeconds()));
+                }
             }
         }
 
         return gameState;
     }
 
+    /**
+     * Start of the open question: kept in memory where the game runs, otherwise derived from the
+     * persisted deadline. Null between questions.
+     */
+    private Long questionStartTime(RoomData roomData, int timerSeconds) {
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomData.getRoomCode());
+        if (runtime != null && runtime.getOpenQuestionIndex() == roomData.getCurrentQuestionIndex()) {
+            return runtime.getQuestionStartTime();
+        }
+        if (roomData.getQuestionDeadlineAt() != null) {
+            return roomData.getQuestionDeadlineAt() - timerSeconds * 1000L;
+        }
+        return null;
+    }
+
     @Override
     @Transactional
     public void advanceToNextQuestion(String roomCode) {
         RoomData roomData = roomRepository.findByRoomCode(roomCode)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
-        int totalQuestions = getQuestionsForRoom(roomData).size();
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        int totalQuestions = plan != null ? plan.getTotalQuestions() : getQuestionsForRoom(roomData).size();
         int nextIndex = roomData.getCurrentQuestionIndex() + 1;
 
         if (nextIndex >= totalQuestions) {
             endGame(roomCode);
         } else {
             roomData.setCurrentQuestionIndex(nextIndex);
+            roomData.setQuestionDeadlineAt(null);
             roomRepository.save(roomData);
             logger.info("Advanced to question {} in room {}", nextIndex, roomCode);
         }
@@ -110,6 +159,12 @@ public class GameServiceImpl implements GameService {
 
     @Override
     public List<LeaderboardEntry> getLeaderboard(String roomCode) {
+        // Running games keep live scores in memory; the database lags by the write-behind delay
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (runtime != null) {
+            return runtime.getLeaderboard();
+        }
+
         RoomData roomData = roomRepository.findByRoomCode(roomCode)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
@@ -131,4 +186,102 @@ public class GameServiceImpl implements GameService {
                 })
                 .collect(Collectors.toList());
     }
+
+    /**
+     * One page of standings. A cursor names the last entry already seen as "score:playerId", so
+     * the next page continues after that position in the ranked index even if ranks moved.
+     */
+    @Override
+    public LeaderboardPage getLeaderboardPage(String roomCode, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        long[] position = cursor != null ? parseCursor(cursor) : null;
+
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (runtime != null) {
+            ScoreTable scoreTable = runtime.getScoreTable();
+            int fromRank = 1;
+            if (position != null) {
+                fromRank = scoreTable.rankAfter(position[1], (int) position[0]);
+                if (fromRank < 0) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+            }
+            return page(roomCode, scoreTable.rankedCount(), scoreTable.leaderboard(fromRank, limit));
+        }
+
+        // Finished or not yet started: page through the database standings
+        List<LeaderboardEntry> leaderboard = getLeaderboard(roomCode);
+        int from = 0;
+        if (position != null) {
+            from = leaderboard.size();
+            for (int i = 0; i < leaderboard.size(); i++) {
+                LeaderboardEntry entry = leaderboard.get(i);
+                if (entry.getTotalScore() < position[0]) {
+                    from = i;
+                    break;
+                }
+                if (entry.getTotalScore() == position[0] && entry.getPlayerId() == position[1]) {
+                    from = i + 1;
+                    break;
+                }
+            }
+        }
+        int to = Math.min(leaderboard.size(), from + limit);
+        return page(roomCode, leaderboard.size(), leaderboard.subList(from, to));
+    }
+
+    @Override
+    public LeaderboardPage getLeaderboardAround(String roomCode, Long playerId, int radius) {
+        if (radius < 0 || radius > MAX_AROUND_RADIUS) {
+            throw new IllegalArgumentException("Radius must be between 0 and " + MAX_AROUND_RADIUS);
+        }
+
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (runtime != null) {
+            ScoreTable scoreTable = runtime.getScoreTable();
+            List<LeaderboardEntry> window = scoreTable.around(playerId, radius);
+            if (window.isEmpty()) {
+                throw new IllegalArgumentException("Player not found");
+            }
+            return page(roomCode, scoreTable.rankedCount(), window);
+        }
+
+        List<LeaderboardEntry> leaderboard = getLeaderboard(roomCode);
+        for (int i = 0; i < leaderboard.size(); i++) {
+            if (leaderboard.get(i).getPlayerId().equals(playerId)) {
+                int from = Math.max(0, i - radius);
+                int to = Math.min(leaderboard.size(), i + radius + 1);
+                return page(roomCode, leaderboard.size(), leaderboard.subList(from, to));
+            }
+        }
+        throw new IllegalArgumentException("Player not found");
+    }
+
+    private LeaderboardPage page(String roomCode, int totalPlayers, List<LeaderboardEntry> entries) {
+        LeaderboardPage page = new LeaderboardPage();
+        page.setRoomCode(roomCode);
+        page.setTotalPlayers(totalPlayers);
+        page.setLeaderboard(new ArrayList<>(entries));
+        if (!entries.isEmpty()) {
+            LeaderboardEntry last = entries.get(entries.size() - 1);
+            if (last.getRank() < totalPlayers) {
+                page.setNextCursor(last.getTotalScore() + ":" + last.getPlayerId());
+            }
+        }
+        return page;
+    }
+
+    private long[] parseCursor(String cursor) {
+        int separator = cursor.indexOf(':');
+        try {
+            return new long[]{
+                    Long.parseLong(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1))
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
 }
@@ -17,7 +17,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -82,13 +84,7 @@ public class QuestionServiceImpl implements QuestionService {
         questionData = questionRepository.save(questionData);
 
         // Save answers
-        for (int i = 0; i < answers.size(); i++) {
-            AnswerData answerData = new AnswerData();
-            answerData.setQuestion(questionData);
-            answerData.setAnswerText(answers.get(i));
-            answerData.setAnswerIndex(i);
-            answerRepository.save(answerData);
-        }
+        saveAnswers(questionData, answers);
 
         logger.info("Added question to room {}: {}", roomCode, questionText);
         return transformQuestionService.transform(questionData);
@@ -118,13 +114,7 @@ public class QuestionServiceImpl implements QuestionService {
         questionData.setTimerSeconds(timerSeconds != null ? timerSeconds : 15);
         questionData = questionRepository.save(questionData);
 
-        for (int i = 0; i < answers.size(); i++) {
-            AnswerData answerData = new AnswerData();
-            answerData.setQuestion(questionData);
-            answerData.setAnswerText(answers.get(i));
-            answerData.setAnswerIndex(i);
-            answerRepository.save(answerData);
-        }
+        saveAnswers(questionData, answers);
 
         logger.info("Added question to category {}: {}", categoryId, questionText);
         return transformQuestionService.transform(questionData);
@@ -153,13 +143,7 @@ public class QuestionServiceImpl implements QuestionService {
         questionData = questionRepository.save(questionData);
 
         answerRepository.deleteByQuestionId(questionId);
-        for (int i = 0; i < answers.size(); i++) {
-            AnswerData answerData = new AnswerData();
-            answerData.setQuestion(questionData);
-            answerData.setAnswerText(answers.get(i));
-            answerData.setAnswerIndex(i);
-            answerRepository.save(answerData);
-        }
+        saveAnswers(questionData, answers);
 
         logger.info("Updated question {} in category {}", questionId, categoryId);
         return transformQuestionService.transform(questionData);
@@ -179,13 +163,7 @@ public class QuestionServiceImpl implements QuestionService {
 
         // Update answers
         answerRepository.deleteByQuestionId(questionId);
-        for (int i = 0; i < answers.size(); i++) {
-            AnswerData answerData = new AnswerData();
-            answerData.setQuestion(questionData);
-            answerData.setAnswerText(answers.get(i));
-            answerData.setAnswerIndex(i);
-            answerRepository.save(answerData);
-        }
+        saveAnswers(questionData, answers);
 
         return transformQuestionService.transform(questionData);
     }
@@ -228,6 +206,15 @@ public class QuestionServiceImpl implements QuestionService {
             categoryQuestions = categoryQuestions.subList(0, limit);
         }
 
+        // Load every source answer in one query, grouped by question
+        Map<Long, List<AnswerData>> sourceAnswers = answerRepository.findByQuestionIdInOrderByAnswerIndexAsc(
+                        categoryQuestions.stream().map(QuestionData::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(a -> a.getQuestion().getId()));
+
+        // Sequence ids let Hibernate send these as JDBC batches on flush
+        List<QuestionData> newQuestions = new ArrayList<>();
+        List<AnswerData> newAnswers = new ArrayList<>();
         int order = 1;
         for (QuestionData source : categoryQuestions) {
             QuestionData newQuestion = new QuestionData();
@@ -236,19 +223,32 @@ public class QuestionServiceImpl implements QuestionService {
             newQuestion.setQuestionOrder(order++);
             newQuestion.setCorrectAnswerIndex(source.getCorrectAnswerIndex());
             newQuestion.setTimerSeconds(source.getTimerSeconds());
-            newQuestion = questionRepository.save(newQuestion);
+            newQuestions.add(newQuestion);
 
             // Copy answers
-            List<AnswerData> sourceAnswers = answerRepository.findByQuestionIdOrderByAnswerIndexAsc(source.getId());
-            for (AnswerData sourceAnswer : sourceAnswers) {
+            for (AnswerData sourceAnswer : sourceAnswers.getOrDefault(source.getId(), List.of())) {
                 AnswerData newAnswer = new AnswerData();
                 newAnswer.setQuestion(newQuestion);
                 newAnswer.setAnswerText(sourceAnswer.getAnswerText());
                 newAnswer.setAnswerIndex(sourceAnswer.getAnswerIndex());
-                answerRepository.save(newAnswer);
+                newAnswers.add(newAnswer);
             }
         }
+        questionRepository.saveAll(newQuestions);
+        answerRepository.saveAll(newAnswers);
 
         logger.info("Copied {} questions from category {} to room {}", categoryQuestions.size(), categoryId, roomCode);
     }
+
+    private void saveAnswers(QuestionData questionData, List<String> answers) {
+        List<AnswerData> answerRows = new ArrayList<>(answers.size());
+        for (int i = 0; i < answers.size(); i++) {
+            AnswerData answerData = new AnswerData();
+            answerData.setQuestion(questionData);
+            answerData.setAnswerText(answers.get(i));
+            answerData.setAnswerIndex(i);
+            answerRows.add(answerData);
+        }
+        answerRepository.saveAll(answerRows);
+    }
 }
@@ -3,6 +3,9 @@ package com.ectrvia.trivia.serviceimpl;
 import com.ectrvia.trivia.entity.CategoryData;
 import com.ectrvia.trivia.entity.PlayerData;
 import com.ectrvia.trivia.entity.RoomData;
+import com.ectrvia.trivia.game.GamePlan;
+import com.ectrvia.trivia.game.GamePlanRegistry;
+import com.ectrvia.trivia.game.RoomRuntimeRegistry;
 import com.ectrvia.trivia.kafka.event.GameStateEvent;
 import com.ectrvia.trivia.kafka.producer.GameEventProducer;
 import com.ectrvia.trivia.model.Player;
@@ -13,18 +16,26 @@ import com.ectrvia.trivia.repository.RoomRepository;
 import com.ectrvia.trivia.service.RoomService;
 import com.ectrvia.trivia.transform.TransformPlayerService;
 import com.ectrvia.trivia.transform.TransformRoomService;
+import com.ectrvia.trivia.websocket.GameEventBroadcaster;
 import com.ectrvia.trivia.websocket.GameWebSocketHandler;
 import com.ectrvia.trivia.scheduler.GameTimerScheduler;
+import com.ectrvia.trivia.scheduler.RoomOwnershipService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 
@@ -57,19 +68,36 @@ public class RoomServiceImpl implements RoomService {
     @Autowired
     private GameWebSocketHandler webSocketHandler;
 
+    @Autowired
+    private GamePlanRegistry gamePlanRegistry;
+
+    @Autowired
+    private RoomRuntimeRegistry roomRuntimeRegistry;
+
     @Autowired
     @Lazy
     private GameTimerScheduler gameTimerScheduler;
 
+    @Autowired
+    private RoomOwnershipService roomOwnershipService;
+
+    @Autowired
+    private GameEventBroadcaster gameEventBroadcaster;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Override
     @Transactional
-    public Room createRoom(Long categoryId, Boolean isThemeBased, Integer timerSeconds, Integer maxPlayers) {
+    public Room createRoom(Long categoryId, Boolean isThemeBased, Integer timerSeconds, Integer maxPlayers,
+                           String scoringRuleSet) {
         RoomData roomData = new RoomData();
         roomData.setRoomCode(generateUniqueRoomCode());
         roomData.setIsThemeBased(isThemeBased != null ? isThemeBased : false);
         roomData.setQuestionTimerSeconds(timerSeconds != null ? timerSeconds : 15);
         roomData.setMaxPlayers(maxPlayers != null ? maxPlayers : 100);
         roomData.setStatus(RoomData.RoomStatus.LOBBY);
+        roomData.setScoringRuleSet(parseScoringRuleSet(scoringRuleSet));
 
         if (categoryId != null) {
             CategoryData category = categoryRepository.findById(categoryId).orElse(null);
@@ -82,6 +110,17 @@ public class RoomServiceImpl implements RoomService {
         return transformRoomService.transform(roomData);
     }
 
+    private RoomData.ScoringRuleSet parseScoringRuleSet(String scoringRuleSet) {
+        if (scoringRuleSet == null || scoringRuleSet.isBlank()) {
+            return RoomData.ScoringRuleSet.STANDARD;
+        }
+        try {
+            return RoomData.ScoringRuleSet.valueOf(scoringRuleSet.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown scoring rule set: " + scoringRuleSet);
+        }
+    }
+
     @Override
     public Room getRoomByCode(String roomCode) {
         RoomData roomData = roomRepository.findByRoomCode(roomCode).orElse(null);
@@ -143,7 +182,7 @@ public class RoomServiceImpl implements RoomService {
         wsPayload.put("player", player);
         wsPayload.put("serverTimestamp", System.currentTimeMillis());
         
-        webSocketHandler.broadcastPlayerEvent(roomCode, wsPayload);
+        broadcastPlayerEvent(roomCode, wsPayload);
 
         return player;
     }
@@ -162,6 +201,16 @@ public class RoomServiceImpl implements RoomService {
 
         playerRepository.delete(playerData);
 
+        // A player leaving mid-question may mean everyone remaining has answered
+        if (roomData.getStatus() == RoomData.RoomStatus.IN_PROGRESS) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    gameTimerScheduler.removeParticipant(roomCode, playerId);
+                }
+            });
+        }
+
         // Host promotion
         if (wasHost) {
             PlayerData newHost = playerRepository.findFirstByRoomIdAndIsHostFalseOrderByJoinOrderAsc(roomData.getId())
@@ -184,12 +233,24 @@ public class RoomServiceImpl implements RoomService {
                 wsPayload.put("eventType", "HOST_CHANGED");
                 wsPayload.put("roomCode", roomCode);
                 wsPayload.put("payload", hostChangePayload);
-                webSocketHandler.broadcastPlayerEvent(roomCode, wsPayload);
+                broadcastPlayerEvent(roomCode, wsPayload);
             }
         }
 
         int remainingPlayers = playerRepository.countByRoomId(roomData.getId());
-        Map<String, Object> leavePayload = Map.of("playerId", playerId, "nickname", nickname, "totalPlayers", remainingPlayers);
+
+        // Player payload
+        Map<String, Object> partialPlayer = new HashMap<>();
+        partialPlayer.put("id", playerId);
+        partialPlayer.put("nickname", nickname);
+        partialPlayer.put("isHost", wasHost);
+        partialPlayer.put("isProxyHost", false);
+        partialPlayer.put("totalScore", 0);
+        partialPlayer.put("currentStreak", 0);
+        partialPlayer.put("isConnected", false);
+
+        Map<String, Object> leavePayload = Map.of("playerId", playerId, "nickname", nickname,
+                "totalPlayers", remainingPlayers, "player", partialPlayer);
         gameEventProducer.publishGameEvent(
                 roomCode,
                 GameStateEvent.GameEventType.PLAYER_LEFT,
@@ -203,20 +264,19 @@ public class RoomServiceImpl implements RoomService {
         wsLeavePayload.put("eventType", "PLAYER_LEFT");
         wsLeavePayload.put("roomCode", roomCode);
         wsLeavePayload.put("serverTimestamp", System.currentTimeMillis());
-
-        // Player payload
-        Map<String, Object> partialPlayer = new HashMap<>();
-        partialPlayer.put("id", playerId);
-        partialPlayer.put("nickname", nickname);
-        partialPlayer.put("isHost", wasHost);
-        partialPlayer.put("isProxyHost", false);
-        partialPlayer.put("totalScore", 0);
-        partialPlayer.put("currentStreak", 0);
-        partialPlayer.put("isConnected", false);
-        
         wsLeavePayload.put("player", partialPlayer);
         
-        webSocketHandler.broadcastPlayerEvent(roomCode, wsLeavePayload);
+        broadcastPlayerEvent(roomCode, wsLeavePayload);
+    }
+
+    /**
+     * Send a player event to the room's /players topic, unless GameEventConsumer relays it from
+     * game-events instead (kafka delivery mode).
+     */
+    private void broadcastPlayerEvent(String roomCode, Map<String, Object> payload) {
+        if (gameEventBroadcaster.getDeliveryMode() != GameEventBroadcaster.DeliveryMode.KAFKA) {
+            webSocketHandler.broadcastPlayerEvent(roomCode, payload);
+        }
     }
 
     @Override
@@ -232,35 +292,99 @@ public class RoomServiceImpl implements RoomService {
             }
         }
 
+        // Load questions and answers once for the whole game
+        GamePlan plan = gamePlanRegistry.load(roomData);
+        if (plan.isEmpty()) {
+            gamePlanRegistry.evict(roomCode);
+            throw new IllegalStateException("Failed to start game: No questions found for this game. Please check theme or custom questions.");
+        }
+
+        roomRuntimeRegistry.load(roomData);
+
         roomData.setStatus(RoomData.RoomStatus.IN_PROGRESS);
         roomData.setStartedAt(LocalDateTime.now());
         roomData.setCurrentQuestionIndex(0);
         roomData = roomRepository.save(roomData);
 
-        gameEventProducer.publishGameEvent(
+        // Announce and run the game only once IN_PROGRESS is committed: the loop writes question
+        // deadlines on its own, which the flush of this stale row must not overwrite
+        int timerSeconds = roomData.getQuestionTimerSeconds();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                beginGame(roomCode, timerSeconds);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    gamePlanRegistry.evict(roomCode);
+                    roomRuntimeRegistry.evict(roomCode);
+                }
+            }
+        });
+
+        return transformRoomService.transform(roomData);
+    }
+
+    private void beginGame(String roomCode, int timerSeconds) {
+        gameEventBroadcaster.publish(
                 roomCode,
                 GameStateEvent.GameEventType.GAME_STARTING,
-                null, 0, 0, roomData.getQuestionTimerSeconds(),
+                null, 0, 0, timerSeconds,
                 null
         );
 
-        Map<String, Object> wsPayload = new HashMap<>();
-        wsPayload.put("eventId", UUID.randomUUID().toString());
-        wsPayload.put("eventType", "GAME_STARTING");
-        wsPayload.put("roomCode", roomCode);
-        wsPayload.put("timerSeconds", roomData.getQuestionTimerSeconds());
-        wsPayload.put("serverTimestamp", System.currentTimeMillis());
-        webSocketHandler.broadcastGameEvent(roomCode, wsPayload);
+        if (!roomOwnershipService.isOwner(roomCode)) {
+            // The owning node starts the game loop when it consumes GAME_STARTING
+            gamePlanRegistry.evict(roomCode);
+            roomRuntimeRegistry.evict(roomCode);
+            return;
+        }
 
-        // Game timer start
+        // Game timer start; the start is already committed, so a failure rolls it back by hand
+        // instead of throwing out of the synchronization
         try {
             gameTimerScheduler.startGame(roomCode);
         } catch (Exception e) {
             logger.error("Failed to start game timer for room {}: {}", roomCode, e.getMessage(), e);
-            throw new IllegalStateException("Failed to start game: " + e.getMessage());
+            abortGameStart(roomCode, e.getMessage());
         }
+    }
 
-        return transformRoomService.transform(roomData);
+    /**
+     * Put a room whose game loop failed to start back in the lobby and tell its clients, who
+     * already received GAME_STARTING. Never throws, as it runs after the start was committed.
+     */
+    @Override
+    public void abortGameStart(String roomCode, String reason) {
+        gameTimerScheduler.cancelGame(roomCode);
+        gamePlanRegistry.evict(roomCode);
+        roomRuntimeRegistry.evict(roomCode);
+        try {
+            // Called from afterCommit, where the finished transaction is still bound
+            TransactionTemplate newTransaction = new TransactionTemplate(transactionManager);
+            newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            newTransaction.executeWithoutResult(status -> roomRepository.findByRoomCode(roomCode)
+                    .filter(room -> room.getStatus() == RoomData.RoomStatus.IN_PROGRESS)
+                    .ifPresent(room -> {
+                        room.setStatus(RoomData.RoomStatus.LOBBY);
+                        room.setStartedAt(null);
+                        room.setCurrentQuestionIndex(0);
+                        room.setQuestionDeadlineAt(null);
+                        roomRepository.save(room);
+                    }));
+
+            gameEventBroadcaster.publish(
+                    roomCode,
+                    GameStateEvent.GameEventType.GAME_START_FAILED,
+                    null, 0, 0, 0,
+                    Map.of("reason", reason != null ? reason : "Failed to start game")
+            );
+            logger.info("Room {} is back in the lobby after a failed start", roomCode);
+        } catch (Exception e) {
+            logger.error("Failed to revert start of room {}: {}", roomCode, e.getMessage(), e);
+        }
     }
 
     @Override
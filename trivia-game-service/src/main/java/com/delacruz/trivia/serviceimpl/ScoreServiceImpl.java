@@ -4,26 +4,69 @@ import com.ectrvia.trivia.entity.PlayerAnswerData;
 import com.ectrvia.trivia.entity.PlayerData;
 import com.ectrvia.trivia.entity.QuestionData;
 import com.ectrvia.trivia.entity.RoomData;
+import com.ectrvia.trivia.game.AnswerBitmap;
+import com.ectrvia.trivia.game.AnswerDistribution;
+import com.ectrvia.trivia.game.AnswerIdempotencyCache;
+import com.ectrvia.trivia.game.AnswerWriteBehind;
+import com.ectrvia.trivia.game.GamePlan;
+import com.ectrvia.trivia.game.GamePlanRegistry;
+import com.ectrvia.trivia.game.RoomRuntime;
+import com.ectrvia.trivia.game.RoomRuntimeRegistry;
+import com.ectrvia.trivia.game.ScoreTable;
+import com.ectrvia.trivia.kafka.event.GameStateEvent;
 import com.ectrvia.trivia.kafka.processor.ScoreCalculator;
+import com.ectrvia.trivia.kafka.processor.ScoringRule;
 import com.ectrvia.trivia.kafka.producer.AnswerEventProducer;
 import com.ectrvia.trivia.kafka.producer.GameEventProducer;
+import com.ectrvia.trivia.model.AnswerSubmission;
 import com.ectrvia.trivia.model.PlayerAnswer;
 import com.ectrvia.trivia.repository.PlayerAnswerRepository;
 import com.ectrvia.trivia.repository.PlayerRepository;
 import com.ectrvia.trivia.repository.QuestionRepository;
 import com.ectrvia.trivia.repository.RoomRepository;
+import com.ectrvia.trivia.scheduler.GameLoopExecutor;
+import com.ectrvia.trivia.scheduler.GameTimerScheduler;
+import com.ectrvia.trivia.scheduler.RoomOwnershipService;
 import com.ectrvia.trivia.service.ScoreService;
+import com.ectrvia.trivia.websocket.GameWebSocketHandler;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 public class ScoreServiceImpl implements ScoreService {
 
     private static final Logger logger = LoggerFactory.getLogger(ScoreServiceImpl.class);
 
+    /**
+     * DIRECT scores each answer inside the request. KAFKA only validates it and appends it to
+     * answer-submitted; the batch scorer then scores whole polls and the player gets the result
+     * on /user/queue/score.
+     */
+    public enum IngestionMode { DIRECT, KAFKA }
+
+    @Value("${trivia.answers.ingestion:direct}")
+    private String ingestion;
+
+    private IngestionMode ingestionMode;
+
     @Autowired
     private PlayerAnswerRepository playerAnswerRepository;
 
@@ -45,10 +88,154 @@ public class ScoreServiceImpl implements ScoreService {
     @Autowired
     private GameEventProducer gameEventProducer;
 
+    @Autowired
+    @Lazy
+    private GameTimerScheduler gameTimerScheduler;
+
+    @Autowired
+    private GamePlanRegistry gamePlanRegistry;
+
+    @Autowired
+    private RoomRuntimeRegistry roomRuntimeRegistry;
+
+    @Autowired
+    private AnswerWriteBehind answerWriteBehind;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private GameWebSocketHandler webSocketHandler;
+
+    @Autowired
+    private AnswerIdempotencyCache answerIdempotencyCache;
+
+    @Autowired
+    private RoomOwnershipService roomOwnershipService;
+
+    @Autowired
+    private GameLoopExecutor gameLoopExecutor;
+
+    @PostConstruct
+    public void init() {
+        ingestionMode = IngestionMode.valueOf(ingestion.trim().toUpperCase(Locale.ROOT));
+        logger.info("Answer ingestion mode: {}", ingestionMode);
+    }
+
+    @Override
+    public PlayerAnswer submitAnswer(String roomCode, Long playerId, Long questionId,
+                                      Integer selectedAnswerIndex, Integer answerTimeMs, String requestId) {
+        if (requestId == null || requestId.isBlank()) {
+            return submitAnswer(roomCode, playerId, questionId, selectedAnswerIndex, answerTimeMs);
+        }
+        // Retries with the same request id get the first attempt's result back
+        return answerIdempotencyCache.submit(roomCode, playerId, requestId, () ->
+                submitAnswer(roomCode, playerId, questionId, selectedAnswerIndex, answerTimeMs));
+    }
+
     @Override
-    @Transactional
     public PlayerAnswer submitAnswer(String roomCode, Long playerId, Long questionId, 
                                       Integer selectedAnswerIndex, Integer answerTimeMs) {
+        // For games running here the answer time is measured on receipt; the client's value is
+        // only used for rooms without in-memory state
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (plan != null && runtime != null) {
+            answerTimeMs = measureAnswerTime(plan, runtime, questionId, answerTimeMs);
+        }
+
+        if (ingestionMode == IngestionMode.KAFKA) {
+            return acceptAnswer(roomCode, playerId, questionId, selectedAnswerIndex, answerTimeMs);
+        }
+        if (!roomOwnershipService.isOwner(roomCode)) {
+            // Only the owner's score table and answer bitmaps may change; it scores the answer
+            return forwardToOwner(roomCode, playerId, questionId, selectedAnswerIndex, answerTimeMs,
+                    System.currentTimeMillis());
+        }
+        return scoreAnswer(roomCode, playerId, questionId, selectedAnswerIndex, answerTimeMs, null);
+    }
+
+    /**
+     * Hand an answer to the node that owns the room, over the room's game-events partition.
+     * The result reaches the player as a score update, like a queued answer's.
+     * {@code receivedAt} is when the answer was first accepted on any node.
+     */
+    private PlayerAnswer forwardToOwner(String roomCode, Long playerId, Long questionId,
+                                        Integer selectedAnswerIndex, Integer answerTimeMs, long receivedAt) {
+        if (playerId == null || questionId == null || selectedAnswerIndex == null) {
+            throw new IllegalArgumentException("playerId, questionId and selectedAnswerIndex are required");
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("playerId", playerId);
+        payload.put("selectedAnswerIndex", selectedAnswerIndex);
+        payload.put("answerTimeMs", answerTimeMs != null ? answerTimeMs : 0);
+        payload.put("receivedAt", receivedAt);
+        gameEventProducer.publishGameEvent(roomCode, GameStateEvent.GameEventType.ANSWER_FORWARDED,
+                questionId, 0, 0, 0, payload);
+
+        logger.debug("Forwarded answer to the owner of room {}: player={}, question={}", roomCode, playerId, questionId);
+
+        // Not scored yet: isCorrect and points stay null until the score update arrives
+        PlayerAnswer result = new PlayerAnswer();
+        result.setPlayerId(playerId);
+        result.setQuestionId(questionId);
+        result.setSelectedAnswerIndex(selectedAnswerIndex);
+        result.setAnswerTimeMs(answerTimeMs);
+        return result;
+    }
+
+    /**
+     * Score an answer forwarded by another node. Runs on the room's game loop lane, so a game
+     * being resumed here is loaded before its first forwarded answer is scored.
+     */
+    @Override
+    public void scoreForwardedAnswer(String roomCode, AnswerSubmission submission, long receivedAt) {
+        gameLoopExecutor.execute(roomCode, () -> {
+            Integer answerTimeMs = submission.getAnswerTimeMs();
+            GamePlan plan = gamePlanRegistry.get(roomCode);
+            RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+            if (plan != null && runtime != null) {
+                answerTimeMs = measureForwardedAnswerTime(plan, runtime, submission.getQuestionId(),
+                        receivedAt, answerTimeMs);
+            }
+            try {
+                scoreAnswer(roomCode, submission.getPlayerId(), submission.getQuestionId(),
+                        submission.getSelectedAnswerIndex(), answerTimeMs, receivedAt);
+            } catch (IllegalArgumentException e) {
+                rejectAnswer(submission, e.getMessage());
+            } catch (Exception e) {
+                logger.error("Failed to score forwarded answer: room={}, player={}, error={}",
+                        roomCode, submission.getPlayerId(), e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * @param acceptedAt when a queued or forwarded answer was accepted, or null for one scored on receipt
+     */
+    private PlayerAnswer scoreAnswer(String roomCode, Long playerId, Long questionId,
+                                     Integer selectedAnswerIndex, Integer answerTimeMs, Long acceptedAt) {
+        // Checked before any bitmap claim, so a malformed answer is a rejection rather than an NPE
+        if (playerId == null || questionId == null || selectedAnswerIndex == null) {
+            throw new IllegalArgumentException("playerId, questionId and selectedAnswerIndex are required");
+        }
+        // Games running on this node are scored in memory and persisted behind, without a transaction
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (plan != null && runtime != null) {
+            return submitAnswerInMemory(plan, runtime, playerId, questionId, selectedAnswerIndex, answerTimeMs,
+                    acceptedAt);
+        }
+
+        return transactionTemplate.execute(status ->
+                submitAnswerToDatabase(roomCode, playerId, questionId, selectedAnswerIndex, answerTimeMs));
+    }
+
+    /**
+     * Score against the database, for rooms owned by this node whose game loop is not running.
+     */
+    private PlayerAnswer submitAnswerToDatabase(String roomCode, Long playerId, Long questionId,
+                                                Integer selectedAnswerIndex, Integer answerTimeMs) {
         // Check if already answered
         if (playerAnswerRepository.existsByPlayerIdAndQuestionId(playerId, questionId)) {
             throw new IllegalArgumentException("Already answered this question");
@@ -66,9 +253,11 @@ public class ScoreServiceImpl implements ScoreService {
         // Check if answer is correct
         boolean isCorrect = selectedAnswerIndex.equals(question.getCorrectAnswerIndex());
 
-        // Calculate score
-        ScoreCalculator.ScoreResult scoreResult = scoreCalculator.calculate(
-                isCorrect, answerTimeMs, question.getTimerSeconds(), player.getCurrentStreak());
+        // Calculate score with the room's rule set
+        long scoreResult = scoreCalculator.ruleFor(room.getScoringRuleSet())
+                .score(isCorrect, answerTimeMs, question.getTimerSeconds(), player.getCurrentStreak());
+        int pointsEarned = ScoringRule.pointsEarned(scoreResult);
+        int newStreak = ScoringRule.newStreak(scoreResult);
 
         // Save player answer
         PlayerAnswerData answerData = new PlayerAnswerData();
@@ -77,14 +266,15 @@ public class ScoreServiceImpl implements ScoreService {
         answerData.setSelectedAnswerIndex(selectedAnswerIndex);
         answerData.setIsCorrect(isCorrect);
         answerData.setAnswerTimeMs(answerTimeMs);
-        answerData.setPointsEarned(scoreResult.getPointsEarned());
-        answerData.setStreakAtTime(scoreResult.getNewStreak());
+        answerData.setPointsEarned(pointsEarned);
+        answerData.setStreakAtTime(newStreak);
         answerData = playerAnswerRepository.save(answerData);
 
         // Update player score and streak
         int previousStreak = player.getCurrentStreak();
-        player.setTotalScore(player.getTotalScore() + scoreResult.getPointsEarned());
-        player.setCurrentStreak(isCorrect ? scoreResult.getNewStreak() : 0);
+        player.setTotalScore(player.getTotalScore() + pointsEarned);
+        player.setCurrentStreak(newStreak);
+        player.setScoredQuestionIndex(room.getCurrentQuestionIndex());
         player = playerRepository.save(player);
 
         // Publish events
@@ -93,9 +283,9 @@ public class ScoreServiceImpl implements ScoreService {
                 questionId, room.getCurrentQuestionIndex(), selectedAnswerIndex, answerTimeMs);
 
         gameEventProducer.publishScoreUpdated(
-                roomCode, playerId, player.getNickname(), questionId,
+                roomCode, categoryOf(room), playerId, player.getNickname(), questionId,
                 isCorrect, question.getCorrectAnswerIndex(),
-                scoreResult.getPointsEarned(), player.getTotalScore(),
+                pointsEarned, player.getTotalScore(),
                 previousStreak, player.getCurrentStreak(), 0);
 
         // Create response
@@ -105,16 +295,330 @@ public class ScoreServiceImpl implements ScoreService {
         result.setQuestionId(questionId);
         result.setSelectedAnswerIndex(selectedAnswerIndex);
         result.setIsCorrect(isCorrect);
+        result.setCorrectAnswerIndex(question.getCorrectAnswerIndex());
         result.setAnswerTimeMs(answerTimeMs);
-        result.setPointsEarned(scoreResult.getPointsEarned());
+        result.setPointsEarned(pointsEarned);
         result.setStreakAtTime(player.getCurrentStreak());
+        result.setNewTotalScore(player.getTotalScore());
 
         logger.info("Answer submitted: player={}, correct={}, points={}", 
-                player.getNickname(), isCorrect, scoreResult.getPointsEarned());
+                player.getNickname(), isCorrect, pointsEarned);
+
+        // Count the answer once it is committed, so an early close sees the new score
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                gameTimerScheduler.recordAnswer(roomCode, playerId, questionId);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Validate and score against the room's in-memory state and acknowledge right away.
+     * No database access: the answer row and the new score are queued on AnswerWriteBehind.
+     */
+    private PlayerAnswer submitAnswerInMemory(GamePlan plan, RoomRuntime runtime, Long playerId, Long questionId,
+                                              Integer selectedAnswerIndex, Integer answerTimeMs, Long acceptedAt) {
+        String roomCode = runtime.getRoomCode();
+        ScoreTable scoreTable = runtime.getScoreTable();
+        int slot = scoreTable.slotOf(playerId);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Player not found");
+        }
+
+        int questionIndex = plan.indexOf(questionId);
+        if (questionIndex < 0) {
+            throw new IllegalArgumentException("Question not found");
+        }
+        // Answers accepted while the question was open still count if it closed since they were queued
+        AnswerBitmap answered = acceptedAt != null
+                ? runtime.answersFor(questionIndex, acceptedAt) : runtime.answersFor(questionIndex);
+        if (answered == null) {
+            throw new IllegalArgumentException("Question is not accepting answers");
+        }
+        // One bit per player and question; the player_answers unique key stays as a backstop
+        if (!answered.testAndSet(slot)) {
+            throw new IllegalArgumentException("Already answered this question");
+        }
+
+        GamePlan.PlannedQuestion question = plan.getQuestion(questionIndex);
+        boolean isCorrect = selectedAnswerIndex.equals(question.getCorrectAnswerIndex());
+
+        ScoreTable.Outcome outcome = scoreTable.answer(slot, questionIndex, plan.getScoringRule(),
+                isCorrect, answerTimeMs, question.getTimerSeconds());
+        if (outcome == null) {
+            // The question was closed between the bitmap claim and scoring
+            throw new IllegalArgumentException("Question is not accepting answers");
+        }
+        String nickname = scoreTable.nickname(slot);
+        AnswerDistribution distribution = runtime.distributionFor(questionIndex);
+        if (distribution != null) {
+            distribution.record(selectedAnswerIndex);
+        }
+
+        answerWriteBehind.enqueue(new AnswerWriteBehind.PendingAnswer(
+                playerId, questionId, selectedAnswerIndex, isCorrect, answerTimeMs,
+                outcome.getPointsEarned(), outcome.getNewStreak()));
+
+        answerEventProducer.publishAnswerSubmitted(
+                roomCode, runtime.getRoomId(), playerId, nickname,
+                questionId, questionIndex, selectedAnswerIndex, answerTimeMs);
+
+        // The rank read takes the rank lock, so it runs on the room's lane instead of this thread
+        gameLoopExecutor.execute(roomCode, () -> gameEventProducer.publishScoreUpdated(
+                roomCode, plan.getCategoryId(), playerId, nickname, questionId,
+                isCorrect, question.getCorrectAnswerIndex(),
+                outcome.getPointsEarned(), outcome.getTotalScore(),
+                outcome.getPreviousStreak(), outcome.getNewStreak(), scoreTable.rankOf(slot)));
+
+        gameTimerScheduler.recordAnswer(roomCode, playerId, questionId);
+
+        PlayerAnswer result = new PlayerAnswer();
+        result.setPlayerId(playerId);
+        result.setQuestionId(questionId);
+        result.setSelectedAnswerIndex(selectedAnswerIndex);
+        result.setIsCorrect(isCorrect);
+        result.setCorrectAnswerIndex(question.getCorrectAnswerIndex());
+        result.setAnswerTimeMs(answerTimeMs);
+        result.setPointsEarned(outcome.getPointsEarned());
+        result.setStreakAtTime(outcome.getNewStreak());
+        result.setNewTotalScore(outcome.getTotalScore());
 
+        logger.debug("Answer accepted: room={}, player={}, correct={}, points={}",
+                roomCode, nickname, isCorrect, outcome.getPointsEarned());
         return result;
     }
 
+    /**
+     * Time since the question started on the monotonic clock, capped at its timer.
+     */
+    private Integer measureAnswerTime(GamePlan plan, RoomRuntime runtime, Long questionId, Integer clientAnswerTimeMs) {
+        int questionIndex = plan.indexOf(questionId);
+        long elapsedMs = questionIndex >= 0 ? runtime.elapsedMs(questionIndex) : -1;
+        if (elapsedMs < 0) {
+            // Not the open question; validation rejects it
+            return clientAnswerTimeMs;
+        }
+        long timerMs = TimeUnit.SECONDS.toMillis(plan.getQuestion(questionIndex).getTimerSeconds());
+        return (int) Math.min(elapsedMs, timerMs);
+    }
+
+    /**
+     * Time from the question's start to when the forwarding node received the answer, on the
+     * wall clock since the two times come from different nodes, capped at the question's timer.
+     */
+    private Integer measureForwardedAnswerTime(GamePlan plan, RoomRuntime runtime, Long questionId,
+                                               long receivedAt, Integer clientAnswerTimeMs) {
+        int questionIndex = plan.indexOf(questionId);
+        Long startedAt = runtime.getQuestionStartTime();
+        if (questionIndex < 0 || startedAt == null || runtime.getOpenQuestionIndex() != questionIndex) {
+            // Not the open question; validation rejects it
+            return clientAnswerTimeMs;
+        }
+        long timerMs = TimeUnit.SECONDS.toMillis(plan.getQuestion(questionIndex).getTimerSeconds());
+        return (int) Math.max(0, Math.min(receivedAt - startedAt, timerMs));
+    }
+
+    /**
+     * Cheap checks before an answer is queued for the batch scorer. Rooms running on this node
+     * are checked against memory; anything else is left to the scorer.
+     */
+    private PlayerAnswer acceptAnswer(String roomCode, Long playerId, Long questionId,
+                                      Integer selectedAnswerIndex, Integer answerTimeMs) {
+        if (playerId == null || questionId == null || selectedAnswerIndex == null) {
+            throw new IllegalArgumentException("playerId, questionId and selectedAnswerIndex are required");
+        }
+        GamePlan plan = gamePlanRegistry.get(roomCode);
+        RoomRuntime runtime = roomRuntimeRegistry.get(roomCode);
+        if (plan != null && runtime != null) {
+            int slot = runtime.getScoreTable().slotOf(playerId);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Player not found");
+            }
+            AnswerBitmap answered = runtime.answersFor(plan.indexOf(questionId));
+            if (answered == null) {
+                throw new IllegalArgumentException("Question is not accepting answers");
+            }
+            if (answered.get(slot)) {
+                throw new IllegalArgumentException("Already answered this question");
+            }
+        }
+
+        answerEventProducer.publishAnswerReceived(roomCode, playerId, questionId, selectedAnswerIndex,
+                answerTimeMs != null ? answerTimeMs : 0);
+
+        // Not scored yet: isCorrect and points stay null until the score update arrives
+        PlayerAnswer result = new PlayerAnswer();
+        result.setPlayerId(playerId);
+        result.setQuestionId(questionId);
+        result.setSelectedAnswerIndex(selectedAnswerIndex);
+        result.setAnswerTimeMs(answerTimeMs);
+        return result;
+    }
+
+    /**
+     * Score a batch of queued answers for one room. Rooms running on this node are scored in memory;
+     * otherwise the whole batch is checked and written in a single transaction. Rejected answers are
+     * reported to their player on /user/queue/answer. Returns the number of answers accepted.
+     * Answers for rooms owned by another node are forwarded there and not counted.
+     */
+    @Override
+    public int scoreAnswerBatch(String roomCode, List<AnswerSubmission> submissions) {
+        if (!roomOwnershipService.isOwner(roomCode)) {
+            for (AnswerSubmission submission : submissions) {
+                try {
+                    forwardToOwner(roomCode, submission.getPlayerId(), submission.getQuestionId(),
+                            submission.getSelectedAnswerIndex(), submission.getAnswerTimeMs(),
+                            submission.getAcceptedAt() != null ? submission.getAcceptedAt() : System.currentTimeMillis());
+                } catch (IllegalArgumentException e) {
+                    rejectAnswer(submission, e.getMessage());
+                }
+            }
+            return 0;
+        }
+        if (gamePlanRegistry.get(roomCode) != null && roomRuntimeRegistry.get(roomCode) != null) {
+            int accepted = 0;
+            for (AnswerSubmission submission : submissions) {
+                try {
+                    scoreAnswer(roomCode, submission.getPlayerId(), submission.getQuestionId(),
+                            submission.getSelectedAnswerIndex(), submission.getAnswerTimeMs(),
+                            submission.getAcceptedAt());
+                    accepted++;
+                } catch (IllegalArgumentException e) {
+                    rejectAnswer(submission, e.getMessage());
+                }
+            }
+            return accepted;
+        }
+
+        List<String> rejections = new ArrayList<>();
+        List<PlayerAnswerData> saved = transactionTemplate.execute(status ->
+                scoreBatchInDatabase(roomCode, submissions, rejections));
+
+        for (int i = 0; i < submissions.size(); i++) {
+            if (rejections.get(i) != null) {
+                rejectAnswer(submissions.get(i), rejections.get(i));
+            }
+        }
+        for (PlayerAnswerData answer : saved) {
+            gameTimerScheduler.recordAnswer(roomCode, answer.getPlayer().getId(), answer.getQuestion().getId());
+        }
+        logger.debug("Scored answer batch: room={}, accepted={}, rejected={}",
+                roomCode, saved.size(), submissions.size() - saved.size());
+        return saved.size();
+    }
+
+    /**
+     * One transaction for the batch: players, questions and earlier answers are loaded once,
+     * then all rows are written together. {@code rejections} gets one entry per submission,
+     * null when it was accepted.
+     */
+    private List<PlayerAnswerData> scoreBatchInDatabase(String roomCode, List<AnswerSubmission> submissions,
+                                                        List<String> rejections) {
+        RoomData room = roomRepository.findByRoomCode(roomCode)
+                .orElseThrow(() -> new IllegalArgumentException("Room not found"));
+        Set<Long> playerIds = submissions.stream().map(AnswerSubmission::getPlayerId).collect(Collectors.toSet());
+        Set<Long> questionIds = submissions.stream().map(AnswerSubmission::getQuestionId).collect(Collectors.toSet());
+        Map<Long, PlayerData> players = playerRepository.findAllById(playerIds).stream()
+                .collect(Collectors.toMap(PlayerData::getId, p -> p));
+        ScoringRule rule = scoreCalculator.ruleFor(room.getScoringRuleSet());
+        Map<Long, QuestionData> questions = questionRepository.findAllById(questionIds).stream()
+                .collect(Collectors.toMap(QuestionData::getId, q -> q));
+        Set<String> answered = new HashSet<>();
+        for (PlayerAnswerData existing : playerAnswerRepository.findByQuestionIdInAndPlayerIdIn(questionIds, playerIds)) {
+            answered.add(existing.getPlayer().getId() + ":" + existing.getQuestion().getId());
+        }
+
+        List<PlayerAnswerData> rows = new ArrayList<>();
+        // Indexed like rows: a player may answer more than one question in a batch
+        List<Integer> previousStreaks = new ArrayList<>();
+        List<Integer> totalsAfter = new ArrayList<>();
+        for (AnswerSubmission submission : submissions) {
+            PlayerData player = players.get(submission.getPlayerId());
+            QuestionData question = questions.get(submission.getQuestionId());
+            if (player == null || !room.getId().equals(player.getRoom().getId())) {
+                rejections.add("Player not found");
+                continue;
+            }
+            if (question == null) {
+                rejections.add("Question not found");
+                continue;
+            }
+            if (!answered.add(player.getId() + ":" + question.getId())) {
+                rejections.add("Already answered this question");
+                continue;
+            }
+
+            int answerTimeMs = submission.getAnswerTimeMs() != null ? submission.getAnswerTimeMs() : 0;
+            boolean isCorrect = submission.getSelectedAnswerIndex().equals(question.getCorrectAnswerIndex());
+            int previousStreak = player.getCurrentStreak();
+            long scoreResult = rule.score(isCorrect, answerTimeMs, question.getTimerSeconds(), previousStreak);
+            int pointsEarned = ScoringRule.pointsEarned(scoreResult);
+            int newStreak = ScoringRule.newStreak(scoreResult);
+
+            PlayerAnswerData answerData = new PlayerAnswerData();
+            answerData.setPlayer(player);
+            answerData.setQuestion(question);
+            answerData.setSelectedAnswerIndex(submission.getSelectedAnswerIndex());
+            answerData.setIsCorrect(isCorrect);
+            answerData.setAnswerTimeMs(answerTimeMs);
+            answerData.setPointsEarned(pointsEarned);
+            answerData.setStreakAtTime(newStreak);
+            player.setTotalScore(player.getTotalScore() + pointsEarned);
+            player.setCurrentStreak(newStreak);
+            player.setScoredQuestionIndex(room.getCurrentQuestionIndex());
+
+            rows.add(answerData);
+            previousStreaks.add(previousStreak);
+            totalsAfter.add(player.getTotalScore());
+            rejections.add(null);
+        }
+
+        playerAnswerRepository.saveAll(rows);
+        playerRepository.saveAll(players.values());
+
+        // Sent after the rows are flushed at commit; a rollback only loses the notifications
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (int i = 0; i < rows.size(); i++) {
+                    PlayerAnswerData answer = rows.get(i);
+                    PlayerData player = answer.getPlayer();
+                    QuestionData question = answer.getQuestion();
+                    answerEventProducer.publishAnswerSubmitted(
+                            roomCode, room.getId(), player.getId(), player.getNickname(),
+                            question.getId(), room.getCurrentQuestionIndex(),
+                            answer.getSelectedAnswerIndex(), answer.getAnswerTimeMs());
+                    gameEventProducer.publishScoreUpdated(
+                            roomCode, categoryOf(room), player.getId(), player.getNickname(), question.getId(),
+                            answer.getIsCorrect(), question.getCorrectAnswerIndex(),
+                            answer.getPointsEarned(), totalsAfter.get(i),
+                            previousStreaks.get(i), answer.getStreakAtTime(), 0);
+                }
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * Category whose all-time leaderboard a room's scores count towards, or null.
+     */
+    private Long categoryOf(RoomData room) {
+        return Boolean.TRUE.equals(room.getIsThemeBased()) && room.getCategory() != null
+                ? room.getCategory().getId() : null;
+    }
+
+    private void rejectAnswer(AnswerSubmission submission, String message) {
+        logger.debug("Queued answer rejected: player={}, question={}, reason={}",
+                submission.getPlayerId(), submission.getQuestionId(), message);
+        webSocketHandler.sendToPlayer(String.valueOf(submission.getPlayerId()), "answer", Map.of(
+                "error", "ANSWER_FAILED",
+                "message", message,
+                "questionId", String.valueOf(submission.getQuestionId())));
+    }
+
     @Override
     public int calculateScore(boolean isCorrect, int answerTimeMs, int timerSeconds, int currentStreak) {
         ScoreCalculator.ScoreResult result = scoreCalculator.calculate(
@@ -0,0 +1,187 @@
+package com.ectrvia.trivia.websocket;
+
+import com.ectrvia.trivia.kafka.event.EncodedGameEvent;
+import com.ectrvia.trivia.kafka.event.GameStateEvent;
+import com.ectrvia.trivia.kafka.producer.GameEventProducer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodes game flow events once and sends the same bytes to Kafka and to the room's
+ * /game WebSocket topic.
+ *
+ * Clients get the same JSON as {@link GameStateEvent}, so event details (question,
+ * correct answer, leaderboard, podium) are under {@code payload}.
+ *
+ * {@code trivia.events.delivery} decides who delivers these events to WebSocket clients:
+ * <ul>
+ *   <li>{@code direct} - this node broadcasts; GameEventConsumer does not relay them</li>
+ *   <li>{@code kafka} - only GameEventConsumer relays them from game-events</li>
+ *   <li>{@code both} - both, with GameEventConsumer skipping event ids already delivered</li>
+ * </ul>
+ * Events are published to Kafka in every mode, since room ownership reacts to GAME_STARTING.
+ * Player events from RoomService follow the same split on the /players topic.
+ */
+@Service
+public class GameEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameEventBroadcaster.class);
+
+    // Event ids remembered for de-duplication in BOTH mode
+    private static final int MAX_DELIVERED_IDS = 10_000;
+
+    public enum DeliveryMode {
+        DIRECT,
+        KAFKA,
+        BOTH
+    }
+
+    @Value("${trivia.events.delivery:direct}")
+    private String delivery;
+
+    private DeliveryMode deliveryMode;
+
+    private final Map<String, Boolean> deliveredEventIds = Collections.synchronizedMap(
+            new LinkedHashMap<>(1024, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > MAX_DELIVERED_IDS;
+                }
+            });
+
+    private Counter relaySkippedCounter;
+
+    private final Map<GameStateEvent.GameEventType, Counter> encodedCounters =
+            new EnumMap<>(GameStateEvent.GameEventType.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private GameEventProducer gameEventProducer;
+
+    @Autowired
+    private GameWebSocketHandler webSocketHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void init() {
+        deliveryMode = DeliveryMode.valueOf(delivery.trim().toUpperCase(Locale.ROOT));
+        relaySkippedCounter = Counter.builder("trivia.game.events.relay.skipped")
+                .description("Game events from Kafka not relayed because they were already delivered")
+                .register(meterRegistry);
+        for (GameStateEvent.GameEventType eventType : GameStateEvent.GameEventType.values()) {
+            encodedCounters.put(eventType, Counter.builder("trivia.game.events.encoded")
+                    .description("Game events serialized to JSON")
+                    .tag("eventType", eventType.name())
+                    .register(meterRegistry));
+        }
+        logger.info("Game event delivery mode: {}", deliveryMode);
+    }
+
+    public DeliveryMode getDeliveryMode() {
+        return deliveryMode;
+    }
+
+    /**
+     * Build and encode a game event. The result can be published now or kept and published later.
+     */
+    public EncodedGameEvent encode(String roomCode, GameStateEvent.GameEventType eventType,
+                                   Long questionId, int questionIndex, int totalQuestions,
+                                   int timerSeconds, Object payload) {
+        return encode(roomCode, eventType, questionId, questionIndex, totalQuestions,
+                timerSeconds, payload, System.currentTimeMillis());
+    }
+
+    /**
+     * Encode an event ahead of time, stamped with the time it is expected to be sent.
+     */
+    public EncodedGameEvent encode(String roomCode, GameStateEvent.GameEventType eventType,
+                                   Long questionId, int questionIndex, int totalQuestions,
+                                   int timerSeconds, Object payload, long sendAt) {
+        GameStateEvent event = GameStateEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .roomCode(roomCode)
+                .eventType(eventType)
+                .questionId(questionId)
+                .questionIndex(questionIndex)
+                .totalQuestions(totalQuestions)
+                .questionStartTime(sendAt)
+                .timerSeconds(timerSeconds)
+                .payload(payload)
+                .serverTimestamp(sendAt)
+                .build();
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(event);
+            encodedCounters.get(eventType).increment();
+            return new EncodedGameEvent(event.getEventId(), roomCode, eventType, json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode " + eventType + " for room " + roomCode, e);
+        }
+    }
+
+    /**
+     * Send an encoded event to Kafka and to the room's WebSocket subscribers.
+     */
+    public void publish(EncodedGameEvent event) {
+        if (deliveryMode == DeliveryMode.BOTH) {
+            // Record before publishing so the relay of this event always finds it
+            deliveredEventIds.put(event.getEventId(), Boolean.TRUE);
+        }
+        gameEventProducer.publishEncodedGameEvent(event);
+        if (deliveryMode != DeliveryMode.KAFKA) {
+            webSocketHandler.broadcastEncodedGameEvent(event.getRoomCode(), event.getJson());
+        }
+    }
+
+    /**
+     * Whether GameEventConsumer should relay a game flow event it read from Kafka to WebSocket clients.
+     */
+    public boolean shouldRelay(GameStateEvent event) {
+        boolean relay = switch (deliveryMode) {
+            case DIRECT -> false;
+            case KAFKA -> true;
+            // Skips events broadcast directly and Kafka redeliveries of ones already relayed
+            case BOTH -> deliveredEventIds.put(event.getEventId(), Boolean.TRUE) == null;
+        };
+        if (!relay) {
+            relaySkippedCounter.increment();
+        }
+        return relay;
+    }
+
+    /**
+     * Whether GameEventConsumer should relay player events. RoomService broadcasts them directly
+     * with their own ids in direct and both modes, so only kafka mode relays them.
+     */
+    public boolean shouldRelayPlayerEvent() {
+        return deliveryMode == DeliveryMode.KAFKA;
+    }
+
+    public EncodedGameEvent publish(String roomCode, GameStateEvent.GameEventType eventType,
+                                    Long questionId, int questionIndex, int totalQuestions,
+                                    int timerSeconds, Object payload) {
+        EncodedGameEvent event = encode(roomCode, eventType, questionId, questionIndex,
+                totalQuestions, timerSeconds, payload);
+        publish(event);
+        return event;
+    }
+}
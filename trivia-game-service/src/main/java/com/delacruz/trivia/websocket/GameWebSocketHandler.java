@@ -1,8 +1,17 @@
 package com.ectrvia.trivia.websocket;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
 @Service
 public class GameWebSocketHandler {
@@ -10,6 +19,10 @@ public class GameWebSocketHandler {
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private MessageChannel clientOutboundChannel;
+
     public void broadcastToRoom(String roomCode, String destination, Object payload) {
         messagingTemplate.convertAndSend("/topic/room/" + roomCode + "/" + destination, payload);
     }
@@ -22,11 +35,43 @@ public class GameWebSocketHandler {
         broadcastToRoom(roomCode, "game", event);
     }
 
+    /**
+     * Broadcast an event that is already JSON-encoded, so the broker sends the bytes as-is.
+     */
+    public void broadcastEncodedGameEvent(String roomCode, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(json, accessor.getMessageHeaders());
+        messagingTemplate.send("/topic/room/" + roomCode + "/game", message);
+    }
+
     public void broadcastPlayerEvent(String roomCode, Object event) {
         broadcastToRoom(roomCode, "players", event);
     }
 
+    /**
+     * Versioned LEADERBOARD_SNAPSHOT and LEADERBOARD_DELTA frames only; see LeaderboardDeltas.
+     */
     public void broadcastLeaderboard(String roomCode, Object leaderboard) {
         broadcastToRoom(roomCode, "leaderboard", leaderboard);
     }
+
+    /**
+     * Coalesced per-answer score changes, kept off /leaderboard so that topic has one payload shape.
+     */
+    public void broadcastScoreUpdates(String roomCode, Object updates) {
+        broadcastToRoom(roomCode, "scores", updates);
+    }
+
+    /**
+     * Send a STOMP RECEIPT frame to one session. The simple broker only acknowledges
+     * DISCONNECT receipts, so application destinations confirm SEND frames themselves.
+     */
+    public void sendReceipt(String sessionId, String receiptId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.RECEIPT);
+        accessor.setSessionId(sessionId);
+        accessor.setReceiptId(receiptId);
+        clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
 }
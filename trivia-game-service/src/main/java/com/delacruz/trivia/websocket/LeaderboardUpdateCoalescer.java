@@ -0,0 +1,105 @@
+package com.ectrvia.trivia.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges per-answer leaderboard updates and sends each room at most one LEADERBOARD_UPDATE frame
+ * every {@code trivia.leaderboard.coalesce-ms}, holding the latest update of every player that
+ * scored since the previous frame. Frames go to /topic/room/{code}/scores; the versioned
+ * standings stay alone on /topic/room/{code}/leaderboard.
+ */
+@Component
+public class LeaderboardUpdateCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardUpdateCoalescer.class);
+
+    @Value("${trivia.leaderboard.coalesce-ms:250}")
+    private long coalesceMs;
+
+    @Autowired
+    private GameWebSocketHandler webSocketHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Pending updates per room, latest per player; a room's map is only touched inside compute()
+    private final ConcurrentHashMap<String, LinkedHashMap<Long, Map<String, Object>>> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "leaderboard-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Counter receivedCounter;
+    private Counter sentCounter;
+    private Counter savedCounter;
+
+    @PostConstruct
+    public void start() {
+        receivedCounter = Counter.builder("trivia.leaderboard.updates.received")
+                .description("Per-answer leaderboard updates handed to the coalescer")
+                .register(meterRegistry);
+        sentCounter = Counter.builder("trivia.leaderboard.frames.sent")
+                .description("Coalesced leaderboard frames broadcast to rooms")
+                .register(meterRegistry);
+        savedCounter = Counter.builder("trivia.leaderboard.frames.saved")
+                .description("Room broadcasts avoided by coalescing leaderboard updates")
+                .register(meterRegistry);
+        flusher.scheduleAtFixedRate(this::flush, coalesceMs, coalesceMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdown();
+        flush();
+    }
+
+    public void submit(String roomCode, Long playerId, Map<String, Object> update) {
+        receivedCounter.increment();
+        pending.compute(roomCode, (code, updates) -> {
+            LinkedHashMap<Long, Map<String, Object>> merged = updates != null ? updates : new LinkedHashMap<>();
+            merged.remove(playerId);
+            merged.put(playerId, update);
+            return merged;
+        });
+    }
+
+    private void flush() {
+        for (String roomCode : pending.keySet()) {
+            LinkedHashMap<Long, Map<String, Object>> updates = pending.remove(roomCode);
+            if (updates == null || updates.isEmpty()) {
+                continue;
+            }
+            try {
+                Map<String, Object> payload = new HashMap<>();
+                payload.put("eventType", "LEADERBOARD_UPDATE");
+                payload.put("roomCode", roomCode);
+                payload.put("updates", new ArrayList<>(updates.values()));
+                payload.put("serverTimestamp", System.currentTimeMillis());
+                webSocketHandler.broadcastScoreUpdates(roomCode, payload);
+                sentCounter.increment();
+                savedCounter.increment(updates.size() - 1);
+            } catch (Exception e) {
+                logger.error("Failed to broadcast coalesced leaderboard update for room {}", roomCode, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ectrvia.trivia.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * Binds a STOMP session to the player named in the CONNECT frame's {@code playerId} header,
+ * so {@code /user/queue/...} destinations reach that player.
+ */
+@Component
+public class PlayerPrincipalInterceptor implements ChannelInterceptor {
+
+    public static final String PLAYER_ID_HEADER = "playerId";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String playerId = accessor.getFirstNativeHeader(PLAYER_ID_HEADER);
+            if (playerId != null && !playerId.isBlank()) {
+                accessor.setUser(new PlayerPrincipal(playerId.trim()));
+            }
+        }
+        return message;
+    }
+
+    public static final class PlayerPrincipal implements Principal {
+        private final String playerId;
+
+        PlayerPrincipal(String playerId) {
+            this.playerId = playerId;
+        }
+
+        @Override
+        public String getName() {
+            return playerId;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.ectrvia.trivia.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnswerBitmapTest {
+
+    @Test
+    void testAndSetClaimsASlotOnce() {
+        AnswerBitmap bitmap = new AnswerBitmap(10);
+
+        assertTrue(bitmap.testAndSet(3));
+        assertFalse(bitmap.testAndSet(3));
+        assertTrue(bitmap.get(3));
+        assertFalse(bitmap.get(4));
+        assertEquals(1, bitmap.cardinality());
+    }
+
+    @Test
+    void slotsOnWordBoundariesAreIndependent() {
+        AnswerBitmap bitmap = new AnswerBitmap(130);
+
+        for (int slot : new int[]{0, 63, 64, 127, 128, 129}) {
+            assertTrue(bitmap.testAndSet(slot), "slot " + slot);
+        }
+
+        assertEquals(6, bitmap.cardinality());
+        assertFalse(bitmap.get(1));
+        assertFalse(bitmap.get(62));
+        assertFalse(bitmap.get(65));
+        assertEquals(130, bitmap.size());
+    }
+
+    @Test
+    void clearReleasesASlot() {
+        AnswerBitmap bitmap = new AnswerBitmap(70);
+        bitmap.testAndSet(65);
+
+        bitmap.clear(65);
+        bitmap.clear(66);
+
+        assertFalse(bitmap.get(65));
+        assertTrue(bitmap.isEmpty());
+        assertTrue(bitmap.testAndSet(65));
+    }
+
+    @Test
+    void emptyBitmap() {
+        AnswerBitmap bitmap = new AnswerBitmap(0);
+
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.cardinality());
+    }
+
+    @Test
+    void subsetCheck() {
+        AnswerBitmap answered = new AnswerBitmap(100);
+        AnswerBitmap expected = new AnswerBitmap(100);
+        expected.testAndSet(1);
+        expected.testAndSet(70);
+        answered.testAndSet(70);
+
+        assertFalse(expected.isSubsetOf(answered));
+        assertTrue(answered.isSubsetOf(expected));
+
+        answered.testAndSet(1);
+        assertTrue(expected.isSubsetOf(answered));
+    }
+
+    @Test
+    void nextSetBitWalksAcrossWords() {
+        AnswerBitmap bitmap = new AnswerBitmap(130);
+        bitmap.testAndSet(3);
+        bitmap.testAndSet(64);
+        bitmap.testAndSet(129);
+
+        assertEquals(3, bitmap.nextSetBit(0));
+        assertEquals(64, bitmap.nextSetBit(4));
+        assertEquals(129, bitmap.nextSetBit(65));
+        assertEquals(-1, bitmap.nextSetBit(130));
+        assertEquals(-1, new AnswerBitmap(0).nextSetBit(0));
+    }
+
+    @Test
+    void concurrentClaimsHaveExactlyOneWinnerPerSlot() throws InterruptedException {
+        int slots = 4096;
+        int threads = 8;
+        AnswerBitmap bitmap = new AnswerBitmap(slots);
+        AtomicInteger wins = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        // Every thread tries every slot; neighbouring slots share words, so CAS retries happen
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int slot = 0; slot < slots; slot++) {
+                    if (bitmap.testAndSet(slot)) {
+                        wins.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(slots, wins.get());
+        assertEquals(slots, bitmap.cardinality());
+    }
+}
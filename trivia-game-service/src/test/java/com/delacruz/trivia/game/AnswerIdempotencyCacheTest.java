@@ -0,0 +1,146 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.model.PlayerAnswer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnswerIdempotencyCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AnswerIdempotencyCache cache;
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+    }
+
+    @Test
+    void retryGetsTheFirstResultWithoutScoringAgain() {
+        cache = cache(60_000);
+        AtomicInteger runs = new AtomicInteger();
+        PlayerAnswer first = answer(1L);
+
+        PlayerAnswer result = cache.submit("ROOM", 1L, "req-1", () -> {
+            runs.incrementAndGet();
+            return first;
+        });
+        PlayerAnswer retried = cache.submit("ROOM", 1L, "req-1", () -> {
+            runs.incrementAndGet();
+            return answer(1L);
+        });
+
+        assertSame(first, result);
+        assertSame(first, retried);
+        assertEquals(1, runs.get());
+        assertEquals(1.0, meterRegistry.counter("trivia.answers.idempotency.replayed").count());
+    }
+
+    @Test
+    void keysIncludeRoomAndPlayer() {
+        cache = cache(60_000);
+        AtomicInteger runs = new AtomicInteger();
+
+        cache.submit("ROOM", 1L, "req-1", () -> answer(runs.incrementAndGet()));
+        cache.submit("ROOM", 2L, "req-1", () -> answer(runs.incrementAndGet()));
+        cache.submit("OTHER", 1L, "req-1", () -> answer(runs.incrementAndGet()));
+
+        assertEquals(3, runs.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void rejectionsAreReplayed() {
+        cache = cache(60_000);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThrows(IllegalArgumentException.class, () -> cache.submit("ROOM", 1L, "req-1", () -> {
+            runs.incrementAndGet();
+            throw new IllegalArgumentException("Already answered this question");
+        }));
+        IllegalArgumentException retried = assertThrows(IllegalArgumentException.class,
+                () -> cache.submit("ROOM", 1L, "req-1", () -> answer(runs.incrementAndGet())));
+
+        assertEquals("Already answered this question", retried.getMessage());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void otherFailuresAreForgottenSoTheClientCanRetry() {
+        cache = cache(60_000);
+
+        assertThrows(IllegalStateException.class, () -> cache.submit("ROOM", 1L, "req-1", () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        PlayerAnswer retried = cache.submit("ROOM", 1L, "req-1", () -> answer(1L));
+
+        assertEquals(1L, retried.getPlayerId());
+    }
+
+    @Test
+    void retryWhileTheFirstAttemptRunsWaitsForIt() throws Exception {
+        cache = cache(60_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PlayerAnswer first = answer(1L);
+
+        CompletableFuture<PlayerAnswer> original = CompletableFuture.supplyAsync(() ->
+                cache.submit("ROOM", 1L, "req-1", () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    return first;
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<PlayerAnswer> retry = CompletableFuture.supplyAsync(() ->
+                cache.submit("ROOM", 1L, "req-1", () -> answer(2L)));
+        release.countDown();
+
+        assertSame(first, original.get(5, TimeUnit.SECONDS));
+        assertSame(first, retry.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void expiredEntriesAreSwept() throws InterruptedException {
+        cache = cache(1);
+        cache.submit("ROOM", 1L, "req-1", () -> answer(1L));
+        Thread.sleep(10);
+
+        ReflectionTestUtils.invokeMethod(cache, "sweep");
+
+        assertEquals(0, cache.size());
+    }
+
+    private AnswerIdempotencyCache cache(long ttlMs) {
+        AnswerIdempotencyCache created = new AnswerIdempotencyCache();
+        ReflectionTestUtils.setField(created, "ttlMs", ttlMs);
+        ReflectionTestUtils.setField(created, "meterRegistry", meterRegistry);
+        created.start();
+        return created;
+    }
+
+    private static PlayerAnswer answer(long playerId) {
+        PlayerAnswer answer = new PlayerAnswer();
+        answer.setPlayerId(playerId);
+        return answer;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
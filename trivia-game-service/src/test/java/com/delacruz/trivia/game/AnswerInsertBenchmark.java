@@ -0,0 +1,147 @@
+package com.ectrvia.trivia.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answer rows inserted per second, the way Hibernate writes them before and after batching:
+ * IDENTITY ids, one statement and generated-key round-trip per row, against ids handed out from
+ * a pooled sequence and sent in JDBC batches of 50 (hibernate.jdbc.batch_size). Each invocation
+ * writes one write-behind batch of 500 rows in a transaction.
+ *
+ * Needs a MySQL server, by default the docker-compose one; set {@code -Dbenchmark.jdbc.url},
+ * {@code -Dbenchmark.jdbc.user} and {@code -Dbenchmark.jdbc.password} to use another. Rows go to
+ * a scratch table that is dropped afterwards. Run {@link #main} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AnswerInsertBenchmark {
+
+    public enum IdStrategy { IDENTITY, POOLED_SEQUENCE }
+
+    private static final int ROWS_PER_TRANSACTION = 500;
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3307/ectrivia_db"
+            + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC&rewriteBatchedStatements=true";
+
+    private static final String TABLE = "benchmark_player_answers";
+
+    @Param({"IDENTITY", "POOLED_SEQUENCE"})
+    private IdStrategy idStrategy;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private long nextId = 1;
+    private long row;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", DEFAULT_URL),
+                System.getProperty("benchmark.jdbc.user", "root"),
+                System.getProperty("benchmark.jdbc.password", "root"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                    + (idStrategy == IdStrategy.IDENTITY ? "id BIGINT AUTO_INCREMENT" : "id BIGINT") + " PRIMARY KEY,"
+                    + " player_id BIGINT NOT NULL, question_id BIGINT NOT NULL,"
+                    + " selected_answer_index INT, is_correct BOOLEAN, answer_time_ms INT,"
+                    + " points_earned INT, streak_at_time INT,"
+                    + " UNIQUE KEY one_answer_per_question (player_id, question_id))");
+        }
+        connection.setAutoCommit(false);
+        if (idStrategy == IdStrategy.IDENTITY) {
+            insert = connection.prepareStatement("INSERT INTO " + TABLE
+                    + " (player_id, question_id, selected_answer_index, is_correct, answer_time_ms, points_earned, streak_at_time)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+        } else {
+            insert = connection.prepareStatement("INSERT INTO " + TABLE
+                    + " (player_id, question_id, selected_answer_index, is_correct, answer_time_ms, points_earned, streak_at_time, id)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        insert.close();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public long insertBatch() throws SQLException {
+        long lastId = 0;
+        for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+            bindRow(row++);
+            if (idStrategy == IdStrategy.IDENTITY) {
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            } else {
+                lastId = nextId++;
+                insert.setLong(8, lastId);
+                insert.addBatch();
+                if ((i + 1) % JDBC_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+        if (idStrategy == IdStrategy.POOLED_SEQUENCE) {
+            insert.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    private void bindRow(long n) throws SQLException {
+        // Unique (player, question) pairs, as the real table requires
+        insert.setLong(1, n / 20 + 1);
+        insert.setLong(2, n % 20 + 1);
+        insert.setInt(3, (int) (n & 3));
+        insert.setBoolean(4, (n & 3) == 0);
+        insert.setInt(5, (int) (n % 15_000));
+        insert.setInt(6, (n & 3) == 0 ? 1000 : 0);
+        insert.setInt(7, (int) (n & 7));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AnswerInsertBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
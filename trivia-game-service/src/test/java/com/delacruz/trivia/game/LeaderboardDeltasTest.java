@@ -0,0 +1,129 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.model.LeaderboardEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LeaderboardDeltasTest {
+
+    @Test
+    void startsWithAnEmptyVersionZeroSnapshot() {
+        LeaderboardDeltas deltas = new LeaderboardDeltas("ROOM");
+
+        Map<String, Object> snapshot = deltas.snapshot();
+
+        assertEquals(LeaderboardDeltas.SNAPSHOT, snapshot.get("eventType"));
+        assertEquals(0L, snapshot.get("version"));
+        assertEquals(List.of(), snapshot.get("leaderboard"));
+    }
+
+    @Test
+    void firstPublishIsAFullSnapshot() {
+        LeaderboardDeltas deltas = new LeaderboardDeltas("ROOM");
+        List<LeaderboardEntry> standings = List.of(entry(1, 1L, 100), entry(2, 2L, 0));
+
+        Map<String, Object> payload = deltas.publish(standings);
+
+        assertEquals(LeaderboardDeltas.SNAPSHOT, payload.get("eventType"));
+        assertEquals("ROOM", payload.get("roomCode"));
+        assertEquals(1L, payload.get("version"));
+        assertEquals(standings, payload.get("leaderboard"));
+    }
+
+    @Test
+    void laterPublishesCarryOnlyChangedAndRemovedPlayers() {
+        LeaderboardDeltas deltas = new LeaderboardDeltas("ROOM");
+        deltas.publish(List.of(entry(1, 1L, 100), entry(2, 2L, 50), entry(3, 3L, 0)));
+
+        // Player 3 overtakes player 2, player 1 is unchanged, player 2 left
+        Map<String, Object> payload = deltas.publish(List.of(entry(1, 1L, 100), entry(2, 3L, 80)));
+
+        assertEquals(LeaderboardDeltas.DELTA, payload.get("eventType"));
+        assertEquals(2L, payload.get("version"));
+        assertEquals(1L, payload.get("baseVersion"));
+        assertEquals(2, payload.get("playerCount"));
+        assertEquals(List.of(entry(2, 3L, 80)), payload.get("changed"));
+        assertEquals(List.of(2L), payload.get("removed"));
+    }
+
+    @Test
+    void everyPublishAdvancesTheVersionEvenWithoutChanges() {
+        LeaderboardDeltas deltas = new LeaderboardDeltas("ROOM");
+        List<LeaderboardEntry> standings = List.of(entry(1, 1L, 100));
+        deltas.publish(standings);
+
+        Map<String, Object> payload = deltas.publish(standings);
+
+        assertEquals(2L, payload.get("version"));
+        assertEquals(List.of(), payload.get("changed"));
+        assertEquals(List.of(), payload.get("removed"));
+    }
+
+    @Test
+    void snapshotFollowsTheLatestVersion() {
+        LeaderboardDeltas deltas = new LeaderboardDeltas("ROOM");
+        deltas.publish(List.of(entry(1, 1L, 100)));
+        List<LeaderboardEntry> latest = List.of(entry(1, 2L, 200), entry(2, 1L, 100));
+
+        deltas.publish(latest);
+
+        Map<String, Object> snapshot = deltas.snapshot();
+        assertEquals(2L, snapshot.get("version"));
+        assertEquals(latest, snapshot.get("leaderboard"));
+        assertEquals(2, snapshot.get("playerCount"));
+    }
+
+    @Test
+    void applyingEveryDeltaRebuildsTheSnapshot() {
+        LeaderboardDeltas deltas = new LeaderboardDeltas("ROOM");
+        Map<Long, LeaderboardEntry> client = new LinkedHashMap<>();
+        long clientVersion = 0;
+
+        List<List<LeaderboardEntry>> rounds = List.of(
+                List.of(entry(1, 1L, 0), entry(2, 2L, 0), entry(3, 3L, 0)),
+                List.of(entry(1, 2L, 100), entry(2, 1L, 0), entry(3, 3L, 0)),
+                List.of(entry(1, 3L, 250), entry(2, 2L, 100)),
+                List.of(entry(1, 3L, 250), entry(2, 2L, 200)));
+        for (List<LeaderboardEntry> standings : rounds) {
+            Map<String, Object> payload = deltas.publish(standings);
+            long version = (Long) payload.get("version");
+            if (LeaderboardDeltas.SNAPSHOT.equals(payload.get("eventType"))) {
+                client.clear();
+                entries(payload.get("leaderboard")).forEach(entry -> client.put(entry.getPlayerId(), entry));
+            } else {
+                assertEquals(clientVersion, payload.get("baseVersion"));
+                entries(payload.get("changed")).forEach(entry -> client.put(entry.getPlayerId(), entry));
+                ((List<?>) payload.get("removed")).forEach(client::remove);
+            }
+            clientVersion = version;
+        }
+
+        List<LeaderboardEntry> rebuilt = new ArrayList<>(client.values());
+        rebuilt.sort(Comparator.comparing(LeaderboardEntry::getRank));
+        assertEquals(deltas.snapshot().get("leaderboard"), rebuilt);
+        assertEquals(deltas.snapshot().get("version"), clientVersion);
+        assertEquals(2, rebuilt.size());
+    }
+
+    private static LeaderboardEntry entry(int rank, Long playerId, int score) {
+        LeaderboardEntry entry = new LeaderboardEntry();
+        entry.setRank(rank);
+        entry.setPlayerId(playerId);
+        entry.setNickname("player" + playerId);
+        entry.setTotalScore(score);
+        entry.setCurrentStreak(0);
+        return entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<LeaderboardEntry> entries(Object payload) {
+        return (List<LeaderboardEntry>) payload;
+    }
+}
@@ -0,0 +1,134 @@
+package com.ectrvia.trivia.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankIndexTest {
+
+    @Test
+    void ordersByScoreThenSlot() {
+        RankIndex index = new RankIndex(4);
+        index.reposition(0, 100);
+        index.reposition(1, 300);
+        index.reposition(2, 100);
+        index.reposition(3, 200);
+
+        assertEquals(4, index.size());
+        assertEquals(1, index.slotAt(1));
+        assertEquals(3, index.slotAt(2));
+        assertEquals(0, index.slotAt(3));
+        assertEquals(2, index.slotAt(4));
+        assertEquals(3, index.rankOf(0));
+        assertEquals(4, index.rankOf(2));
+    }
+
+    @Test
+    void repositionMovesAnIndexedSlot() {
+        RankIndex index = new RankIndex(3);
+        index.reposition(0, 0);
+        index.reposition(1, 0);
+        index.reposition(2, 0);
+
+        index.reposition(2, 50);
+        index.reposition(2, 50);
+
+        assertEquals(3, index.size());
+        assertEquals(1, index.rankOf(2));
+        assertEquals(2, index.rankOf(0));
+    }
+
+    @Test
+    void removeUnlinksASlot() {
+        RankIndex index = new RankIndex(3);
+        index.reposition(0, 10);
+        index.reposition(1, 20);
+        index.reposition(2, 30);
+
+        index.remove(1);
+        index.remove(1);
+
+        assertFalse(index.contains(1));
+        assertEquals(0, index.rankOf(1));
+        assertEquals(2, index.size());
+        assertEquals(2, index.slotAt(1));
+        assertEquals(0, index.slotAt(2));
+    }
+
+    @Test
+    void outOfRangeRanksHaveNoSlot() {
+        RankIndex index = new RankIndex(2);
+        assertEquals(-1, index.slotAt(1));
+
+        index.reposition(0, 10);
+
+        assertEquals(-1, index.slotAt(0));
+        assertEquals(-1, index.slotAt(2));
+    }
+
+    @Test
+    void countAtOrAboveUsesThePositionASlotWouldHold() {
+        RankIndex index = new RankIndex(4);
+        index.reposition(0, 300);
+        index.reposition(1, 200);
+        index.reposition(2, 200);
+        index.reposition(3, 100);
+
+        // Slot 1 at 200 is behind slot 0 and itself; slot 2 with the same score also counts slot 1
+        assertEquals(2, index.countAtOrAbove(1, 200));
+        assertEquals(3, index.countAtOrAbove(2, 200));
+        // Whatever the slot holds now, a hypothetical 250 ranks right after slot 0
+        assertEquals(1, index.countAtOrAbove(3, 250));
+        assertEquals(0, index.countAtOrAbove(0, 400));
+    }
+
+    @Test
+    void matchesASortedListUnderRandomUpdates() {
+        int capacity = 500;
+        RankIndex index = new RankIndex(capacity);
+        int[] scores = new int[capacity];
+        boolean[] present = new boolean[capacity];
+        Random random = new Random(42);
+
+        for (int step = 0; step < 20_000; step++) {
+            int slot = random.nextInt(capacity);
+            if (random.nextInt(10) == 0) {
+                index.remove(slot);
+                present[slot] = false;
+            } else {
+                scores[slot] = random.nextInt(50) * 100;
+                index.reposition(slot, scores[slot]);
+                present[slot] = true;
+            }
+            if (step % 1000 == 0) {
+                assertMatches(index, scores, present);
+            }
+        }
+        assertMatches(index, scores, present);
+    }
+
+    private static void assertMatches(RankIndex index, int[] scores, boolean[] present) {
+        List<Integer> expected = new ArrayList<>();
+        for (int slot = 0; slot < scores.length; slot++) {
+            if (present[slot]) {
+                expected.add(slot);
+            }
+        }
+        expected.sort(Comparator.<Integer>comparingInt(slot -> -scores[slot]).thenComparingInt(slot -> slot));
+
+        assertEquals(expected.size(), index.size());
+        for (int rank = 1; rank <= expected.size(); rank++) {
+            int slot = expected.get(rank - 1);
+            assertEquals(slot, index.slotAt(rank), "slot at rank " + rank);
+            assertEquals(rank, index.rankOf(slot), "rank of slot " + slot);
+            assertTrue(index.contains(slot));
+        }
+    }
+}
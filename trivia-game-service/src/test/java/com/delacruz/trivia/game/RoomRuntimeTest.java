@@ -0,0 +1,68 @@
+package com.ectrvia.trivia.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomRuntimeTest {
+
+    @Test
+    void claimedAnswersDoNotCloseTheQuestionUntilScored() {
+        RoomRuntime runtime = runtime(2);
+        runtime.openQuestion(0, 4, System.currentTimeMillis());
+
+        runtime.answersFor(0).testAndSet(0);
+        runtime.answersFor(0).testAndSet(1);
+        assertFalse(runtime.allAnswered());
+
+        assertFalse(runtime.recordAnswer(0, 10L));
+        assertTrue(runtime.recordAnswer(0, 11L));
+    }
+
+    @Test
+    void closedQuestionStillTakesAnswersAcceptedBeforeTheClose() {
+        RoomRuntime runtime = runtime(1);
+        long startedAt = System.currentTimeMillis() - 1000;
+        runtime.openQuestion(0, 4, startedAt);
+        long acceptedAt = System.currentTimeMillis();
+
+        assertTrue(runtime.tryCloseQuestion(0));
+
+        assertNull(runtime.answersFor(0));
+        assertNotNull(runtime.answersFor(0, acceptedAt));
+        assertNull(runtime.answersFor(0, System.currentTimeMillis() + 1000));
+        assertNull(runtime.answersFor(0, startedAt - 1));
+    }
+
+    @Test
+    void queuedAnswersForAnEarlierQuestionAreRejected() {
+        RoomRuntime runtime = runtime(1);
+        runtime.openQuestion(0, 4, System.currentTimeMillis());
+        long acceptedAt = System.currentTimeMillis();
+        runtime.tryCloseQuestion(0);
+
+        runtime.openQuestion(1, 4, System.currentTimeMillis());
+
+        assertNull(runtime.answersFor(0, acceptedAt));
+    }
+
+    private static RoomRuntime runtime(int players) {
+        List<Long> ids = new ArrayList<>();
+        List<String> nicknames = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            ids.add(10L + i);
+            nicknames.add("player" + i);
+        }
+        ScoreTable table = new ScoreTable(ids, nicknames, Collections.nCopies(players, 0),
+                Collections.nCopies(players, 0), Collections.nCopies(players, -1));
+        return new RoomRuntime("ROOM01", 1L, table, Set.copyOf(ids));
+    }
+}
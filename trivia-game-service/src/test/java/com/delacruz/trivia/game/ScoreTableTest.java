@@ -0,0 +1,249 @@
+package com.ectrvia.trivia.game;
+
+import com.ectrvia.trivia.kafka.processor.ScoringRule;
+import com.ectrvia.trivia.model.LeaderboardEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreTableTest {
+
+    // 100 points and a streak step per correct answer, nothing for a wrong one
+    private static final ScoringRule RULE = (isCorrect, answerTimeMs, timerSeconds, currentStreak) ->
+            isCorrect ? ScoringRule.pack(100, currentStreak + 1) : ScoringRule.pack(0, 0);
+
+    @Test
+    void scoresAnAnswerAndTracksTheStreak() {
+        ScoreTable table = table(3);
+
+        ScoreTable.Outcome first = table.answer(0, 0, RULE, true, 1000, 15);
+        ScoreTable.Outcome second = table.answer(0, 1, RULE, true, 1000, 15);
+
+        assertEquals(100, first.getPointsEarned());
+        assertEquals(0, first.getPreviousStreak());
+        assertEquals(1, first.getNewStreak());
+        assertEquals(200, second.getTotalScore());
+        assertEquals(1, second.getPreviousStreak());
+        assertEquals(2, table.currentStreak(0));
+        assertEquals(200, table.totalScore(0));
+    }
+
+    @Test
+    void wrongAnswerResetsTheStreak() {
+        ScoreTable table = table(1);
+        table.answer(0, 0, RULE, true, 1000, 15);
+
+        ScoreTable.Outcome outcome = table.answer(0, 1, RULE, false, 1000, 15);
+
+        assertEquals(0, outcome.getPointsEarned());
+        assertEquals(0, table.currentStreak(0));
+        assertEquals(100, table.totalScore(0));
+    }
+
+    @Test
+    void closedQuestionRejectsLateAnswersAndKeepsScores() {
+        ScoreTable table = table(2);
+        table.answer(0, 0, RULE, true, 1000, 15);
+
+        table.close(0);
+
+        assertNull(table.answer(1, 0, RULE, true, 1000, 15));
+        assertEquals(100, table.totalScore(0));
+        assertEquals(1, table.currentStreak(0));
+        assertEquals(0, table.totalScore(1));
+        assertNotNull(table.answer(1, 1, RULE, true, 1000, 15));
+    }
+
+    @Test
+    void rejectsASecondAnswerToTheSameOrAnEarlierQuestion() {
+        ScoreTable table = table(1);
+        assertNotNull(table.answer(0, 2, RULE, true, 1000, 15));
+
+        assertNull(table.answer(0, 2, RULE, true, 1000, 15));
+        assertNull(table.answer(0, 1, RULE, true, 1000, 15));
+        assertEquals(100, table.totalScore(0));
+    }
+
+    @Test
+    void replaySkipsAnswersTheRestoredScoreAlreadyIncludes() {
+        // Player 0's checkpointed score includes question 1, player 1's includes nothing yet
+        ScoreTable table = new ScoreTable(List.of(10L, 11L), List.of("a", "b"),
+                List.of(200, 0), List.of(2, 0), List.of(1, -1));
+
+        assertNull(table.replay(0, 1, 100, 2));
+        assertNotNull(table.replay(0, 2, 100, 3));
+        assertNotNull(table.replay(1, 1, 100, 1));
+
+        assertEquals(300, table.totalScore(0));
+        assertEquals(3, table.currentStreak(0));
+        assertEquals(100, table.totalScore(1));
+    }
+
+    @Test
+    void snapshotNamesTheLastQuestionEachScoreIncludes() {
+        ScoreTable table = table(2);
+        table.answer(0, 3, RULE, true, 1000, 15);
+
+        List<ScoreTable.PlayerScore> snapshot = table.snapshot();
+
+        assertEquals(2, snapshot.size());
+        assertEquals(3, snapshot.get(0).getScoredQuestionIndex());
+        assertEquals(100, snapshot.get(0).getTotalScore());
+        assertEquals(-1, snapshot.get(1).getScoredQuestionIndex());
+    }
+
+    @Test
+    void ranksByScoreThenJoinOrder() {
+        ScoreTable table = table(4);
+        table.answer(2, 0, RULE, true, 1000, 15);
+        table.answer(3, 0, RULE, true, 1000, 15);
+
+        List<LeaderboardEntry> leaderboard = table.leaderboard();
+
+        assertEquals(List.of(12L, 13L, 10L, 11L), playerIds(leaderboard));
+        assertEquals(List.of(1, 2, 3, 4), leaderboard.stream().map(LeaderboardEntry::getRank).collect(Collectors.toList()));
+        assertEquals(1, table.rankOf(2));
+        assertEquals(4, table.rankOf(1));
+    }
+
+    @Test
+    void removedPlayersLeaveTheStandings() {
+        ScoreTable table = table(3);
+        table.answer(1, 0, RULE, true, 1000, 15);
+
+        table.remove(11L);
+
+        assertEquals(-1, table.slotOf(11L));
+        assertEquals(0, table.rankOf(1));
+        assertEquals(2, table.rankedCount());
+        assertEquals(List.of(10L, 12L), playerIds(table.leaderboard()));
+        assertEquals(2, table.snapshot().size());
+        // A late answer still scores the cell but must not bring the player back into the ranks
+        table.answer(1, 1, RULE, true, 1000, 15);
+        assertEquals(2, table.rankedCount());
+    }
+
+    @Test
+    void pagesAndNeighbourhoods() {
+        ScoreTable table = table(10);
+        // Player 10 + i ends with i * 100 points, so ranks run from player 19 down to player 10
+        for (int slot = 0; slot < 10; slot++) {
+            for (int question = 0; question < slot; question++) {
+                table.answer(slot, question, RULE, true, 1000, 15);
+            }
+        }
+
+        assertEquals(List.of(19L, 18L, 17L), playerIds(table.leaderboard(1, 3)));
+        assertEquals(List.of(11L, 10L), playerIds(table.leaderboard(9, 5)));
+        assertEquals(List.of(16L, 15L, 14L), playerIds(table.around(15L, 1)));
+        assertEquals(List.of(19L, 18L), playerIds(table.around(19L, 1)));
+        assertTrue(table.around(99L, 1).isEmpty());
+        // The page after player 17 at 700 points starts at rank 4
+        assertEquals(4, table.rankAfter(17L, 700));
+        assertEquals(-1, table.rankAfter(99L, 0));
+    }
+
+    @Test
+    void ranksCatchUpWithAnswersScoredDuringReads() throws InterruptedException {
+        int players = 500;
+        ScoreTable table = table(players);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Slot s answers s % 7 questions correctly while another thread keeps reading standings
+        for (int slot = 0; slot < players; slot++) {
+            int answeringSlot = slot;
+            pool.execute(() -> {
+                awaitQuietly(start);
+                for (int question = 0; question < answeringSlot % 7; question++) {
+                    table.answer(answeringSlot, question, RULE, true, 1000, 15);
+                }
+            });
+        }
+        pool.execute(() -> {
+            awaitQuietly(start);
+            for (int i = 0; i < 200; i++) {
+                table.leaderboard(1, 10);
+            }
+        });
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<LeaderboardEntry> leaderboard = table.leaderboard();
+        for (int rank = 1; rank < leaderboard.size(); rank++) {
+            assertTrue(leaderboard.get(rank - 1).getTotalScore() >= leaderboard.get(rank).getTotalScore());
+        }
+        assertEquals(600, leaderboard.get(0).getTotalScore());
+    }
+
+    @Test
+    void concurrentAnswersAreNeitherLostNorCountedTwice() throws InterruptedException {
+        int players = 1000;
+        int questions = 5;
+        ScoreTable table = table(players);
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Every answer is submitted twice, from different threads
+        for (int copy = 0; copy < 2; copy++) {
+            for (int slot = 0; slot < players; slot++) {
+                int answeringSlot = slot;
+                pool.execute(() -> {
+                    awaitQuietly(start);
+                    for (int question = 0; question < questions; question++) {
+                        if (table.answer(answeringSlot, question, RULE, true, 1000, 15) != null) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(players * questions, accepted.get());
+        for (int slot = 0; slot < players; slot++) {
+            assertEquals(questions * 100, table.totalScore(slot));
+        }
+        assertEquals(players, table.leaderboard().size());
+    }
+
+    private static ScoreTable table(int players) {
+        List<Long> ids = new ArrayList<>();
+        List<String> nicknames = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            ids.add(10L + i);
+            nicknames.add("player" + i);
+        }
+        return new ScoreTable(ids, nicknames, Collections.nCopies(players, 0),
+                Collections.nCopies(players, 0), Collections.nCopies(players, -1));
+    }
+
+    private static List<Long> playerIds(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::getPlayerId).collect(Collectors.toList());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.ectrvia.trivia.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedWheelRoomTimerTest {
+
+    private static final long TICK_MS = 5;
+
+    private HashedWheelRoomTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        // Small wheel, so the longer delays below need several rotations
+        timer = new HashedWheelRoomTimer(TICK_MS, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    void firesOnceAfterTheDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        long start = System.nanoTime();
+
+        RoomTimer.Timeout timeout = timer.schedule(() -> {
+            runs.incrementAndGet();
+            fired.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs >= 50 - TICK_MS, "fired after " + elapsedMs + " ms");
+        Thread.sleep(100);
+        assertEquals(1, runs.get());
+        assertTrue(timeout.isExpired());
+        assertTrue(timeout.isDone());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    void zeroDelayFiresOnTheNextTick() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+
+        timer.schedule(fired::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void firesInDeadlineOrderAcrossRotations() throws InterruptedException {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch fired = new CountDownLatch(4);
+        // One rotation of the wheel is 8 ticks = 40 ms
+        int[] delaysMs = {130, 20, 95, 60};
+        for (int delayMs : delaysMs) {
+            timer.schedule(() -> {
+                order.add(delayMs);
+                fired.countDown();
+            }, delayMs, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(20, 60, 95, 130), order);
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        RoomTimer.Timeout timeout = timer.schedule(runs::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, timer.pendingTimeouts());
+
+        Thread.sleep(100);
+        assertEquals(0, runs.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    void cancelAfterExpiryReturnsFalse() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        RoomTimer.Timeout timeout = timer.schedule(fired::countDown, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+        assertFalse(timeout.cancel());
+        assertFalse(timeout.isCancelled());
+    }
+
+    @Test
+    void cancellingOneTimeoutLeavesItsBucketNeighbours() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(2);
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        // Same delay, so all three share a bucket
+        timer.schedule(fired::countDown, 40, TimeUnit.MILLISECONDS);
+        RoomTimer.Timeout cancelled = timer.schedule(cancelledRuns::incrementAndGet, 40, TimeUnit.MILLISECONDS);
+        timer.schedule(fired::countDown, 40, TimeUnit.MILLISECONDS);
+
+        cancelled.cancel();
+
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals(0, cancelledRuns.get());
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheTimer() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        timer.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 5, TimeUnit.MILLISECONDS);
+        timer.schedule(fired::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void countsPendingTimeouts() {
+        timer.schedule(() -> { }, 1, TimeUnit.HOURS);
+        RoomTimer.Timeout second = timer.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        assertEquals(2, timer.pendingTimeouts());
+        second.cancel();
+        assertEquals(1, timer.pendingTimeouts());
+    }
+
+    @Test
+    void rejectsSchedulingOnceClosed() {
+        timer.close();
+
+        assertThrows(IllegalStateException.class, () -> timer.schedule(() -> { }, 1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelRoomTimer(0, TimeUnit.MILLISECONDS, 8));
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelRoomTimer(10, TimeUnit.MILLISECONDS, 0));
+    }
+}
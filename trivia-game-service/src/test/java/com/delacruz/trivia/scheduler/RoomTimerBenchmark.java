@@ -0,0 +1,144 @@
+package com.ectrvia.trivia.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of moving one room to its next deadline (cancel the pending timeout, schedule the next),
+ * as the game loop does on every question transition, with 1k, 10k and 100k rooms holding a
+ * pending timeout. Compares {@link HashedWheelRoomTimer} with the ScheduledThreadPoolExecutor
+ * (10 threads) GameTimerScheduler used before.
+ *
+ * Run {@link #main} with the test classpath, e.g. from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoomTimerBenchmark {
+
+    public enum Implementation { WHEEL, SCHEDULED_POOL }
+
+    // Far enough out that no deadline expires during a run
+    private static final long MIN_DELAY_SECONDS = 600;
+    private static final long MAX_DELAY_SECONDS = 1200;
+
+    @Param({"1000", "10000", "100000"})
+    private int rooms;
+
+    @Param({"WHEEL", "SCHEDULED_POOL"})
+    private Implementation implementation;
+
+    private RoomTimer timer;
+    private RoomTimer.Timeout[] pending;
+    private int nextRoom;
+
+    @Setup
+    public void setUp() {
+        timer = implementation == Implementation.WHEEL
+                ? new HashedWheelRoomTimer(10, TimeUnit.MILLISECONDS, 512)
+                : new ScheduledPoolRoomTimer(10);
+        pending = new RoomTimer.Timeout[rooms];
+        for (int room = 0; room < rooms; room++) {
+            pending[room] = timer.schedule(RoomTimerBenchmark::noop, randomDelaySeconds(), TimeUnit.SECONDS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        for (RoomTimer.Timeout timeout : pending) {
+            timeout.cancel();
+        }
+        ((AutoCloseable) timer).close();
+    }
+
+    @Benchmark
+    public RoomTimer.Timeout reschedule() {
+        int room = nextRoom;
+        nextRoom = room + 1 == rooms ? 0 : room + 1;
+        pending[room].cancel();
+        RoomTimer.Timeout timeout = timer.schedule(RoomTimerBenchmark::noop, randomDelaySeconds(), TimeUnit.SECONDS);
+        pending[room] = timeout;
+        return timeout;
+    }
+
+    private static long randomDelaySeconds() {
+        return ThreadLocalRandom.current().nextLong(MIN_DELAY_SECONDS, MAX_DELAY_SECONDS);
+    }
+
+    private static void noop() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RoomTimerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * The previous scheduling: a heap-based ScheduledThreadPoolExecutor, removing cancelled tasks
+     * so the queue holds only live rooms.
+     */
+    static final class ScheduledPoolRoomTimer implements RoomTimer, AutoCloseable {
+
+        private final ScheduledThreadPoolExecutor executor;
+
+        ScheduledPoolRoomTimer(int threads) {
+            executor = new ScheduledThreadPoolExecutor(threads);
+            executor.setRemoveOnCancelPolicy(true);
+        }
+
+        @Override
+        public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+            ScheduledFuture<?> future = executor.schedule(task, delay, unit);
+            return new Timeout() {
+                @Override
+                public boolean cancel() {
+                    return future.cancel(false);
+                }
+
+                @Override
+                public boolean isExpired() {
+                    return future.isDone() && !future.isCancelled();
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return future.isCancelled();
+                }
+            };
+        }
+
+        @Override
+        public int pendingTimeouts() {
+            return executor.getQueue().size();
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.ectrvia.trivia.kafka;
 
 import com.ectrvia.trivia.kafka.event.AnswerSubmittedEvent;
-import com.ectrvia.trivia.kafka.event.GameStateEvent;
+import com.ectrvia.trivia.kafka.event.LeaderboardSnapshotEvent;
 import com.ectrvia.trivia.kafka.event.ScoreUpdatedEvent;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +17,8 @@ import org.springframework.kafka.core.*;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,6 +28,10 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    /** Names this node's global leaderboard group; defaults to the host name. */
+    @Value("${trivia.global-leaderboard.node-id:}")
+    private String globalLeaderboardNodeId;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -38,6 +46,24 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    /**
+     * Producer for events that are already JSON-encoded, so they are not serialized again.
+     * Game-events consumers read raw bytes, so both producers' records look the same to them.
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> encodedProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> encodedKafkaTemplate() {
+        return new KafkaTemplate<>(encodedProducerFactory());
+    }
+
     @Bean
     public ConsumerFactory<String, AnswerSubmittedEvent> answerConsumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -58,6 +84,32 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Separate group for the batch scorer, so it sees every answer independently of the
+     * PLAYER_ANSWERED notifier and can take up to 500 records per poll.
+     */
+    @Bean
+    public ConsumerFactory<String, AnswerSubmittedEvent> answerScoringConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "ectrivia-answer-scoring-group");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new JsonDeserializer<>(AnswerSubmittedEvent.class));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, AnswerSubmittedEvent> answerBatchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, AnswerSubmittedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(answerScoringConsumerFactory());
+        factory.setBatchListener(true);
+        return factory;
+    }
+
     @Bean
     public ConsumerFactory<String, ScoreUpdatedEvent> scoreConsumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -78,21 +130,77 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Every node keeps the whole cross-room leaderboard, so each one reads all score updates
+     * under its own group. The group id is stable per node, so restarts rejoin the same group
+     * instead of leaving an orphaned one behind on the broker. The listener seeks to the offsets the restored leaderboard-topk
+     * snapshots cover, or to the beginning of partitions they don't.
+     */
     @Bean
-    public ConsumerFactory<String, GameStateEvent> gameEventConsumerFactory() {
+    public ConsumerFactory<String, ScoreUpdatedEvent> globalLeaderboardConsumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, "ectrivia-game-group");
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "ectrivia-global-leaderboard-" + globalLeaderboardNodeId());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new JsonDeserializer<>(ScoreUpdatedEvent.class));
+    }
+
+    private String globalLeaderboardNodeId() {
+        if (!globalLeaderboardNodeId.isBlank()) {
+            return globalLeaderboardNodeId;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Set trivia.global-leaderboard.node-id; the host name is not resolvable", e);
+        }
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ScoreUpdatedEvent> globalLeaderboardKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ScoreUpdatedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(globalLeaderboardConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * Reads the compacted leaderboard-topk topic from the beginning on startup; partitions are
+     * assigned manually, so nothing is committed.
+     */
+    @Bean
+    public ConsumerFactory<String, LeaderboardSnapshotEvent> leaderboardSnapshotConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
-                new JsonDeserializer<>(GameStateEvent.class));
+                new JsonDeserializer<>(LeaderboardSnapshotEvent.class));
+    }
+
+    /**
+     * Game events are read as raw JSON, so relayed events reach WebSocket clients as the exact
+     * bytes that were published, without being serialized again.
+     */
+    @Bean
+    public ConsumerFactory<String, byte[]> gameEventConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "ectrivia-game-group");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(props);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, GameStateEvent> gameEventKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, GameStateEvent> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> gameEventKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(gameEventConsumerFactory());
         return factory;
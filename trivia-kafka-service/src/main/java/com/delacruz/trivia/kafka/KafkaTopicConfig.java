@@ -11,6 +11,10 @@ public class KafkaTopicConfig {
     public static final String TOPIC_ANSWER_SUBMITTED = "answer-submitted";
     public static final String TOPIC_SCORE_UPDATED = "score-updated";
     public static final String TOPIC_GAME_EVENTS = "game-events";
+    public static final String TOPIC_LEADERBOARD_TOPK = "leaderboard-topk";
+
+    // game-events is keyed by roomCode, so its partition also decides which node owns a room
+    public static final int GAME_EVENTS_PARTITIONS = 10;
 
     @Bean
     public NewTopic answerSubmittedTopic() {
@@ -31,8 +35,20 @@ public class KafkaTopicConfig {
     @Bean
     public NewTopic gameEventsTopic() {
         return TopicBuilder.name(TOPIC_GAME_EVENTS)
-                .partitions(10)
+                .partitions(GAME_EVENTS_PARTITIONS)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * Compacted, so only the latest top-K snapshot of each scope is kept.
+     */
+    @Bean
+    public NewTopic leaderboardTopKTopic() {
+        return TopicBuilder.name(TOPIC_LEADERBOARD_TOPK)
+                .partitions(1)
                 .replicas(1)
+                .compact()
                 .build();
     }
 }
@@ -20,4 +20,6 @@ public class AnswerSubmittedEvent {
     private int selectedAnswerIndex;
     private long answerTimeMs;
     private long serverTimestamp;
+    // false while the answer still waits for the batch scorer, true once it has been scored
+    private boolean scored;
 }
@@ -0,0 +1,49 @@
+package com.ectrvia.trivia.kafka.event;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link GameStateEvent} encoded once to JSON. The same bytes are used for the Kafka
+ * record and for every WebSocket frame.
+ *
+ * The byte array is shared and must never be mutated.
+ */
+public final class EncodedGameEvent {
+
+    private final String eventId;
+    private final String roomCode;
+    private final GameStateEvent.GameEventType eventType;
+    private final byte[] json;
+
+    public EncodedGameEvent(String eventId, String roomCode, GameStateEvent.GameEventType eventType, byte[] json) {
+        this.eventId = eventId;
+        this.roomCode = roomCode;
+        this.eventType = eventType;
+        this.json = json;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getRoomCode() {
+        return roomCode;
+    }
+
+    public GameStateEvent.GameEventType getEventType() {
+        return eventType;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public int size() {
+        return json.length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
@@ -28,6 +28,10 @@ public class GameStateEvent {
         QUESTION_START,
         QUESTION_END,
         GAME_FINISHED,
-        HOST_CHANGED
+        // The game loop could not start after GAME_STARTING went out; the room is back in the lobby
+        GAME_START_FAILED,
+        HOST_CHANGED,
+        // An answer received by a node that doesn't own the room, for the owner to score
+        ANSWER_FORWARDED
     }
 }
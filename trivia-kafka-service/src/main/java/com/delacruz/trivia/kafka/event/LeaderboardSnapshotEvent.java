@@ -0,0 +1,26 @@
+package com.ectrvia.trivia.kafka.event;
+
+import com.ectrvia.trivia.model.GlobalLeaderboardEntry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latest top-K of one leaderboard scope ("global" or "category:{id}"), kept on the compacted
+ * leaderboard-topk topic under the scope as key.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardSnapshotEvent {
+    private String scope;
+    private List<GlobalLeaderboardEntry> entries;
+    private long updatedAt;
+    // Next score-updated offset per partition; every update before these is in the entries
+    private Map<Integer, Long> scoreOffsets;
+}
@@ -12,6 +12,8 @@ import lombok.NoArgsConstructor;
 public class ScoreUpdatedEvent {
     private String eventId;
     private String roomCode;
+    // Category of a theme-based room, null for custom questions
+    private Long categoryId;
     private Long playerId;
     private String playerNickname;
     private Long questionId;
@@ -1,7 +1,15 @@
 package com.ectrvia.trivia.kafka.processor;
 
+import com.ectrvia.trivia.entity.RoomData;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resolves a room's scoring rule set. Rules are shared, immutable instances, so scoring an
+ * answer allocates nothing; see {@link ScoringRule} for the packed result.
+ */
 @Component
 public class ScoreCalculator {
 
@@ -9,27 +17,32 @@ public class ScoreCalculator {
     private static final int MIN_POINTS = 500;
     private static final double STREAK_MULTIPLIER = 0.1;
     private static final int MAX_STREAK_BONUS = 5;
+    private static final int SPEED_STEPS = 4;
 
-    public ScoreResult calculate(boolean isCorrect, long answerTimeMs, int timerSeconds, int currentStreak) {
-        if (!isCorrect) {
-            return new ScoreResult(0, 0, false);
-        }
-
-        // Speed bonus calculation
-        long timerMs = timerSeconds * 1000L;
-        double timeRatio = 1.0 - ((double) answerTimeMs / timerMs);
-        timeRatio = Math.max(0, Math.min(1, timeRatio));
+    private final Map<RoomData.ScoringRuleSet, ScoringRule> rules = new EnumMap<>(RoomData.ScoringRuleSet.class);
 
-        int speedPoints = (int) (MIN_POINTS + (BASE_POINTS - MIN_POINTS) * timeRatio);
-
-        // Streak multiplier calculation
-        int newStreak = currentStreak + 1;
-        int effectiveStreak = Math.min(newStreak, MAX_STREAK_BONUS);
-        double multiplier = 1.0 + (effectiveStreak * STREAK_MULTIPLIER);
+    public ScoreCalculator() {
+        rules.put(RoomData.ScoringRuleSet.STANDARD,
+                new SpeedBonusRule(BASE_POINTS, MIN_POINTS, 0, STREAK_MULTIPLIER, MAX_STREAK_BONUS));
+        rules.put(RoomData.ScoringRuleSet.STEPPED,
+                new SpeedBonusRule(BASE_POINTS, MIN_POINTS, SPEED_STEPS, STREAK_MULTIPLIER, MAX_STREAK_BONUS));
+        rules.put(RoomData.ScoringRuleSet.NO_STREAK,
+                new SpeedBonusRule(BASE_POINTS, MIN_POINTS, 0, 0, 0));
+        rules.put(RoomData.ScoringRuleSet.FLAT,
+                new SpeedBonusRule(BASE_POINTS, BASE_POINTS, 0, 0, 0));
+    }
 
-        int totalPoints = (int) (speedPoints * multiplier);
+    public ScoringRule ruleFor(RoomData.ScoringRuleSet ruleSet) {
+        return rules.get(ruleSet != null ? ruleSet : RoomData.ScoringRuleSet.STANDARD);
+    }
 
-        return new ScoreResult(totalPoints, newStreak, true);
+    /**
+     * Score with the standard rule set.
+     */
+    public ScoreResult calculate(boolean isCorrect, long answerTimeMs, int timerSeconds, int currentStreak) {
+        long packed = ruleFor(RoomData.ScoringRuleSet.STANDARD)
+                .score(isCorrect, answerTimeMs, timerSeconds, currentStreak);
+        return new ScoreResult(ScoringRule.pointsEarned(packed), ScoringRule.newStreak(packed), isCorrect);
     }
 
     public static class ScoreResult {
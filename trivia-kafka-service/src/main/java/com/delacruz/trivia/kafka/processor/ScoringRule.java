@@ -0,0 +1,23 @@
+package com.ectrvia.trivia.kafka.processor;
+
+/**
+ * Scores one answer. Implementations are stateless and allocation-free: the result is packed
+ * into a primitive long, points earned in the high 32 bits and the new streak in the low 32 bits.
+ */
+@FunctionalInterface
+public interface ScoringRule {
+
+    long score(boolean isCorrect, long answerTimeMs, int timerSeconds, int currentStreak);
+
+    static long pack(int pointsEarned, int newStreak) {
+        return ((long) pointsEarned << 32) | (newStreak & 0xFFFFFFFFL);
+    }
+
+    static int pointsEarned(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    static int newStreak(long packed) {
+        return (int) packed;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ectrvia.trivia.kafka.processor;
+
+/**
+ * Rule family behind the built-in rule sets: a correct answer earns between {@code minPoints}
+ * and {@code basePoints} depending on how fast it came, times a streak multiplier.
+ * With {@code steps > 0} the speed bonus drops in that many equal steps instead of linearly.
+ * A wrong answer earns nothing and resets the streak.
+ */
+final class SpeedBonusRule implements ScoringRule {
+
+    private final int basePoints;
+    private final int minPoints;
+    private final int steps;
+    private final double streakMultiplier;
+    private final int maxStreakBonus;
+
+    SpeedBonusRule(int basePoints, int minPoints, int steps, double streakMultiplier, int maxStreakBonus) {
+        this.basePoints = basePoints;
+        this.minPoints = minPoints;
+        this.steps = steps;
+        this.streakMultiplier = streakMultiplier;
+        this.maxStreakBonus = maxStreakBonus;
+    }
+
+    @Override
+    public long score(boolean isCorrect, long answerTimeMs, int timerSeconds, int currentStreak) {
+        if (!isCorrect) {
+            return ScoringRule.pack(0, 0);
+        }
+
+        long timerMs = timerSeconds * 1000L;
+        double timeRatio = 1.0 - ((double) answerTimeMs / timerMs);
+        timeRatio = Math.max(0, Math.min(1, timeRatio));
+        if (steps > 0) {
+            // Round up so an instant answer and one inside the first step both get full points
+            timeRatio = Math.ceil(timeRatio * steps) / steps;
+        }
+
+        int speedPoints = (int) (minPoints + (basePoints - minPoints) * timeRatio);
+
+        int newStreak = currentStreak + 1;
+        int effectiveStreak = Math.min(newStreak, maxStreakBonus);
+        double multiplier = 1.0 + (effectiveStreak * streakMultiplier);
+
+        return ScoringRule.pack((int) (speedPoints * multiplier), newStreak);
+    }
+}
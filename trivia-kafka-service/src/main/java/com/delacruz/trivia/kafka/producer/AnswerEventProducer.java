@@ -31,9 +31,31 @@ public class AnswerEventProducer {
                 .selectedAnswerIndex(selectedAnswerIndex)
                 .answerTimeMs(answerTimeMs)
                 .serverTimestamp(System.currentTimeMillis())
+                .scored(true)
                 .build();
 
         logger.info("Publishing answer submitted event: roomCode={}, playerId={}", roomCode, playerId);
         kafkaTemplate.send(KafkaTopicConfig.TOPIC_ANSWER_SUBMITTED, roomCode, event);
     }
+
+    /**
+     * Append an answer that has been validated but not scored yet, for the batch scorer.
+     */
+    public void publishAnswerReceived(String roomCode, Long playerId, Long questionId,
+                                      int selectedAnswerIndex, long answerTimeMs) {
+        AnswerSubmittedEvent event = AnswerSubmittedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .roomCode(roomCode)
+                .playerId(playerId)
+                .questionId(questionId)
+                .questionIndex(-1)
+                .selectedAnswerIndex(selectedAnswerIndex)
+                .answerTimeMs(answerTimeMs)
+                .serverTimestamp(System.currentTimeMillis())
+                .scored(false)
+                .build();
+
+        logger.debug("Publishing answer received event: roomCode={}, playerId={}", roomCode, playerId);
+        kafkaTemplate.send(KafkaTopicConfig.TOPIC_ANSWER_SUBMITTED, roomCode, event);
+    }
 }
@@ -1,6 +1,7 @@
 package com.ectrvia.trivia.kafka.producer;
 
 import com.ectrvia.trivia.kafka.KafkaTopicConfig;
+import com.ectrvia.trivia.kafka.event.EncodedGameEvent;
 import com.ectrvia.trivia.kafka.event.GameStateEvent;
 import com.ectrvia.trivia.kafka.event.ScoreUpdatedEvent;
 import org.slf4j.Logger;
@@ -19,6 +20,9 @@ public class GameEventProducer {
     @Autowired
     private KafkaTemplate<String, Object> kafkaTemplate;
 
+    @Autowired
+    private KafkaTemplate<String, byte[]> encodedKafkaTemplate;
+
     public void publishGameEvent(String roomCode, GameStateEvent.GameEventType eventType,
                                   Long questionId, int questionIndex, int totalQuestions,
                                   int timerSeconds, Object payload) {
@@ -39,13 +43,22 @@ public class GameEventProducer {
         kafkaTemplate.send(KafkaTopicConfig.TOPIC_GAME_EVENTS, roomCode, event);
     }
 
-    public void publishScoreUpdated(String roomCode, Long playerId, String playerNickname,
+    /**
+     * Publish a game event that was already encoded, without serializing it again.
+     */
+    public void publishEncodedGameEvent(EncodedGameEvent event) {
+        logger.info("Publishing game event: roomCode={}, eventType={}", event.getRoomCode(), event.getEventType());
+        encodedKafkaTemplate.send(KafkaTopicConfig.TOPIC_GAME_EVENTS, event.getRoomCode(), event.getJson());
+    }
+
+    public void publishScoreUpdated(String roomCode, Long categoryId, Long playerId, String playerNickname,
                                      Long questionId, boolean isCorrect, int correctAnswerIndex,
                                      int pointsEarned, int newTotalScore,
                                      int previousStreak, int newStreak, int currentRank) {
         ScoreUpdatedEvent event = ScoreUpdatedEvent.builder()
                 .eventId(UUID.randomUUID().toString())
                 .roomCode(roomCode)
+                .categoryId(categoryId)
                 .playerId(playerId)
                 .playerNickname(playerNickname)
                 .questionId(questionId)
@@ -0,0 +1,34 @@
+package com.ectrvia.trivia.kafka.producer;
+
+import com.ectrvia.trivia.kafka.KafkaTopicConfig;
+import com.ectrvia.trivia.kafka.event.LeaderboardSnapshotEvent;
+import com.ectrvia.trivia.model.GlobalLeaderboardEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class LeaderboardSnapshotProducer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardSnapshotProducer.class);
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    public void publishSnapshot(String scope, List<GlobalLeaderboardEntry> entries, Map<Integer, Long> scoreOffsets) {
+        LeaderboardSnapshotEvent event = LeaderboardSnapshotEvent.builder()
+                .scope(scope)
+                .entries(entries)
+                .updatedAt(System.currentTimeMillis())
+                .scoreOffsets(scoreOffsets)
+                .build();
+
+        logger.debug("Publishing leaderboard snapshot: scope={}, entries={}", scope, entries.size());
+        kafkaTemplate.send(KafkaTopicConfig.TOPIC_LEADERBOARD_TOPK, scope, event);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ectrvia.trivia.kafka.processor;
+
+import com.ectrvia.trivia.entity.RoomData;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Scoring is on the answer hot path and must not allocate. Measured with the JVM's per-thread
+ * allocation counter after warm-up, over enough calls that one boxed result each would show.
+ */
+class ScoringRuleAllocationTest {
+
+    private static final int WARMUP_CALLS = 200_000;
+    private static final int MEASURED_CALLS = 1_000_000;
+
+    // Room for the counter's own bookkeeping; one allocation per call would be megabytes
+    private static final long ALLOWED_BYTES = 1024;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private final ScoreCalculator scoreCalculator = new ScoreCalculator();
+
+    // Keeps the results alive so the calls are not optimized away
+    private long sink;
+
+    @BeforeAll
+    static void enableAllocationCounter() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "JVM does not expose per-thread allocation");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "JVM does not count allocated bytes");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void everyRuleSetScoresWithoutAllocating() {
+        for (RoomData.ScoringRuleSet ruleSet : RoomData.ScoringRuleSet.values()) {
+            ScoringRule rule = scoreCalculator.ruleFor(ruleSet);
+            scoreMany(rule, WARMUP_CALLS);
+
+            long threadId = Thread.currentThread().getId();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            scoreMany(rule, MEASURED_CALLS);
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+            assertTrue(allocated < ALLOWED_BYTES,
+                    ruleSet + " allocated " + allocated + " bytes over " + MEASURED_CALLS + " answers");
+        }
+        assertTrue(sink != 0);
+    }
+
+    @Test
+    void packedResultRoundTrips() {
+        long packed = ScoringRule.pack(1234, 7);
+
+        assertEquals(1234, ScoringRule.pointsEarned(packed));
+        assertEquals(7, ScoringRule.newStreak(packed));
+    }
+
+    private void scoreMany(ScoringRule rule, int calls) {
+        long total = 0;
+        for (int i = 0; i < calls; i++) {
+            total += rule.score((i & 3) != 0, i % 15_000, 15, i & 7);
+        }
+        sink += total;
+    }
+}
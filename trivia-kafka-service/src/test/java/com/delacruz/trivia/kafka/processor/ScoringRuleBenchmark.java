@@ -0,0 +1,61 @@
+package com.ectrvia.trivia.kafka.processor;
+
+import com.ectrvia.trivia.entity.RoomData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scoring one answer per rule set. Runs with the GC profiler, whose
+ * {@code gc.alloc.rate.norm} column should read ~0 B/op (within measurement noise) for every rule set.
+ *
+ * Run {@link #main} with the test classpath, e.g. from the IDE.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringRuleBenchmark {
+
+    @Param({"STANDARD", "STEPPED", "NO_STREAK", "FLAT"})
+    private RoomData.ScoringRuleSet ruleSet;
+
+    private ScoringRule rule;
+    private int answer;
+
+    @Setup
+    public void setUp() {
+        rule = new ScoreCalculator().ruleFor(ruleSet);
+    }
+
+    @Benchmark
+    public long score() {
+        int i = answer++;
+        return rule.score((i & 3) != 0, i % 15_000, 15, i & 7);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ScoringRuleBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}